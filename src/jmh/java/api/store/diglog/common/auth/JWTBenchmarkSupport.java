@@ -0,0 +1,69 @@
+package api.store.diglog.common.auth;
+
+import api.store.diglog.common.config.CacheConfig;
+import api.store.diglog.model.constant.Role;
+import api.store.diglog.model.entity.Member;
+import api.store.diglog.repository.MemberRepository;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+// 벤치마크용 JWTUtil/Member 생성 (스프링 컨텍스트 없이 @Value 필드를 직접 설정)
+final class JWTBenchmarkSupport {
+
+    static final String KEY = "benchmarkbenchmarkbenchmarkbenchmarkbenchmarkbenchmarkbenchmarkbenchmark";
+
+    private JWTBenchmarkSupport() {
+    }
+
+    static JWTUtil createJwtUtil() {
+        return createJwtUtil(10000L);
+    }
+
+    static JWTUtil createJwtUtil(long verifiedTokenCacheSize) {
+        JWTUtil jwtUtil = new JWTUtil();
+        ReflectionTestUtils.setField(jwtUtil, "key", KEY);
+        ReflectionTestUtils.setField(jwtUtil, "domain", "localhost");
+        ReflectionTestUtils.setField(jwtUtil, "accessSeconds", 1800);
+        ReflectionTestUtils.setField(jwtUtil, "refreshSeconds", 1209600);
+        ReflectionTestUtils.setField(jwtUtil, "refreshRenewSeconds", 604800);
+        ReflectionTestUtils.setField(jwtUtil, "envMode", "local");
+        ReflectionTestUtils.setField(jwtUtil, "verifiedTokenCacheSize", verifiedTokenCacheSize);
+        jwtUtil.afterPropertiesSet();
+
+        return jwtUtil;
+    }
+
+    // findIdByEmail만 구현한 MemberRepository, email로 id를 만들어 DB 없이 응답
+    static CurrentMemberIdResolver createCurrentMemberIdResolver() {
+        MemberRepository memberRepository = (MemberRepository) Proxy.newProxyInstance(
+                MemberRepository.class.getClassLoader(), new Class<?>[]{MemberRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findIdByEmail")) {
+                        return Optional.of(UUID.nameUUIDFromBytes(((String) args[0]).getBytes(StandardCharsets.UTF_8)));
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+
+        return new CurrentMemberIdResolver(memberRepository, new ConcurrentMapCacheManager(CacheConfig.MEMBER));
+    }
+
+    static Member createMember() {
+        return createMember(0);
+    }
+
+    // 회원마다 subject가 달라 서로 다른 토큰이 생성됨
+    static Member createMember(int index) {
+        return Member.builder()
+                .id(UUID.randomUUID())
+                .email("benchmark" + index + "@example.com")
+                .username("benchmark" + index)
+                .roles(Set.of(Role.ROLE_USER))
+                .build();
+    }
+}
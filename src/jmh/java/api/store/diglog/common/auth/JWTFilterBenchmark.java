@@ -0,0 +1,93 @@
+package api.store.diglog.common.auth;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+// 요청 하나당 JWTFilter 비용, 여러 회원의 토큰을 번갈아 사용
+// legacy: 변경 이전 코드 경로 (LegacyJWTFilter)
+// cacheHit: 토큰 수(1,000)가 검증 캐시보다 작아 첫 요청 이후 모두 캐시 사용
+// cacheMiss: 토큰 수(65,536)보다 캐시가 작아 매번 서명 검증 (캐시 미스 비용 포함)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JWTFilterBenchmark {
+
+    private static final int HIT_TOKEN_COUNT = 1000;
+    private static final int MISS_TOKEN_COUNT = 65536;
+
+    private Filter legacyFilter;
+    private Filter hitFilter;
+    private Filter missFilter;
+    private MockHttpServletRequest[] hitRequests;
+    private MockHttpServletRequest[] missRequests;
+    private MockHttpServletRequest anonymousRequest;
+    private int hitIndex;
+    private int missIndex;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        JWTUtil jwtUtil = JWTBenchmarkSupport.createJwtUtil();
+        legacyFilter = new LegacyJWTFilter(JWTBenchmarkSupport.KEY);
+        CurrentMemberIdResolver currentMemberIdResolver = JWTBenchmarkSupport.createCurrentMemberIdResolver();
+        hitFilter = new JWTFilter(jwtUtil, currentMemberIdResolver);
+        missFilter = new JWTFilter(JWTBenchmarkSupport.createJwtUtil(1L), currentMemberIdResolver);
+
+        hitRequests = createRequests(jwtUtil, HIT_TOKEN_COUNT);
+        missRequests = createRequests(jwtUtil, MISS_TOKEN_COUNT);
+        anonymousRequest = new MockHttpServletRequest();
+    }
+
+    private MockHttpServletRequest[] createRequests(JWTUtil jwtUtil, int count) {
+        MockHttpServletRequest[] requests = new MockHttpServletRequest[count];
+        for (int i = 0; i < count; i++) {
+            requests[i] = new MockHttpServletRequest();
+            requests[i].addHeader("Authorization", "Bearer " + jwtUtil.generateAccessToken(JWTBenchmarkSupport.createMember(i)));
+        }
+
+        return requests;
+    }
+
+    @Benchmark
+    public Authentication legacy() throws ServletException, IOException {
+        hitIndex = (hitIndex + 1) % HIT_TOKEN_COUNT;
+        return filter(legacyFilter, hitRequests[hitIndex]);
+    }
+
+    @Benchmark
+    public Authentication cacheHit() throws ServletException, IOException {
+        hitIndex = (hitIndex + 1) % HIT_TOKEN_COUNT;
+        return filter(hitFilter, hitRequests[hitIndex]);
+    }
+
+    @Benchmark
+    public Authentication cacheMiss() throws ServletException, IOException {
+        missIndex = (missIndex + 1) % MISS_TOKEN_COUNT;
+        return filter(missFilter, missRequests[missIndex]);
+    }
+
+    @Benchmark
+    public Authentication anonymous() throws ServletException, IOException {
+        return filter(hitFilter, anonymousRequest);
+    }
+
+    // 다음 호출에 영향을 주지 않도록 SecurityContext를 비움 (모든 benchmark에서 같은 비용)
+    private Authentication filter(Filter filter, MockHttpServletRequest request) throws ServletException, IOException {
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+
+        return authentication;
+    }
+}
@@ -0,0 +1,58 @@
+package api.store.diglog.common.auth;
+
+import api.store.diglog.model.entity.Member;
+import api.store.diglog.model.vo.member.MemberInfoVO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.Authentication;
+
+import java.util.concurrent.TimeUnit;
+
+// JWTUtil 메서드별 비용 (토큰 생성/검증/파싱)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JWTUtilBenchmark {
+
+    private JWTUtil jwtUtil;
+    private Member member;
+    private String accessToken;
+    private String authorization;
+    private String refreshToken;
+
+    @Setup
+    public void setup() {
+        jwtUtil = JWTBenchmarkSupport.createJwtUtil();
+        member = JWTBenchmarkSupport.createMember();
+        accessToken = jwtUtil.generateAccessToken(member);
+        authorization = "Bearer " + accessToken;
+        refreshToken = jwtUtil.generateRefreshCookie(member).getValue();
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtUtil.generateAccessToken(member);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(authorization);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return jwtUtil.getAuthentication(accessToken);
+    }
+
+    @Benchmark
+    public MemberInfoVO getMemberInfo() {
+        return jwtUtil.getMemberInfo(refreshToken);
+    }
+
+    @Benchmark
+    public boolean shouldRenewRefresh() {
+        return jwtUtil.shouldRenewRefresh(refreshToken);
+    }
+}
@@ -0,0 +1,93 @@
+package api.store.diglog.common.auth;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.GenericFilterBean;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+// 비교 기준: 변경 이전 JWTFilter/JWTUtil 코드 경로 (요청마다 JwtParser를 새로 만들어 토큰을 두 번 파싱, 캐시 없음)
+class LegacyJWTFilter extends GenericFilterBean {
+
+    private static final String AUTHORITIES_KEY = "auth";
+
+    private final SecretKey secretKey;
+
+    LegacyJWTFilter(String key) {
+        this.secretKey = new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8),
+                Jwts.SIG.HS512.key().build().getAlgorithm());
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+
+        String authorization = httpRequest.getHeader("Authorization");
+        if (validateToken(authorization)) {
+            String accessToken = authorization.substring(7);
+            Authentication authentication = getAuthentication(accessToken);
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+        }
+
+        chain.doFilter(request, response);
+    }
+
+    private boolean validateToken(String authorization) {
+        if (authorization == null || authorization.length() < 7) {
+            return false;
+        }
+
+        String accessToken = authorization.substring(7);
+        if (!StringUtils.hasText(accessToken)) {
+            return false;
+        }
+
+        try {
+            Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(accessToken);
+            return true;
+        } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException | ExpiredJwtException ignored) {
+        }
+
+        return false;
+    }
+
+    private Authentication getAuthentication(String jwt) {
+        Claims claims = Jwts
+                .parser()
+                .verifyWith(secretKey)
+                .build()
+                .parseSignedClaims(jwt)
+                .getPayload();
+
+        Collection<? extends GrantedAuthority> authorities = Arrays
+                .stream(claims.get(AUTHORITIES_KEY).toString().split(","))
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toList());
+
+        User principal = new User(claims.getSubject(), "", authorities);
+
+        return new UsernamePasswordAuthenticationToken(principal, jwt, authorities);
+    }
+}
@@ -0,0 +1,59 @@
+package api.store.diglog.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 여러 스레드가 같은 게시글(hot)/여러 게시글을 동시에 조회할 때 조회수 증가 비용
+// merge는 ConcurrentHashMap에 Long을 누적하는 방식 (같은 key의 갱신은 bin 잠금으로 직렬화됨)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(16)
+@Fork(1)
+public class PostViewCountBenchmark {
+
+    private static final int POST_COUNT = 1000;
+
+    private PostViewCountService postViewCountService;
+    private ConcurrentHashMap<UUID, Long> mergeCounts;
+    private UUID hotPostId;
+    private UUID[] postIds;
+
+    @Setup
+    public void setup() {
+        // increase만 측정하므로 DB, 캐시 없이 생성
+        postViewCountService = new PostViewCountService(null, null, null);
+        mergeCounts = new ConcurrentHashMap<>();
+        hotPostId = UUID.randomUUID();
+        postIds = new UUID[POST_COUNT];
+        for (int i = 0; i < POST_COUNT; i++) {
+            postIds[i] = UUID.randomUUID();
+        }
+    }
+
+    @Benchmark
+    public void increaseHotPost() {
+        postViewCountService.increase(hotPostId);
+    }
+
+    @Benchmark
+    public void mergeHotPost() {
+        mergeCounts.merge(hotPostId, 1L, Long::sum);
+    }
+
+    @Benchmark
+    public void increaseRandomPost() {
+        postViewCountService.increase(postIds[ThreadLocalRandom.current().nextInt(POST_COUNT)]);
+    }
+
+    @Benchmark
+    public void mergeRandomPost() {
+        mergeCounts.merge(postIds[ThreadLocalRandom.current().nextInt(POST_COUNT)], 1L, Long::sum);
+    }
+}
@@ -0,0 +1,306 @@
+package api.store.diglog.service.search;
+
+import api.store.diglog.model.constant.SearchOption;
+import api.store.diglog.model.vo.post.PostSummaryVO;
+import api.store.diglog.model.vo.tag.PostTagVO;
+import api.store.diglog.repository.PostRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// 검색 backend별 전체(제목 + 태그) 검색 한 페이지(10개) 비용
+// like: PostRepository.findSummariesByTitleOrTagNameContaining을 bench 테이블로 옮긴 쿼리 (기본 H2 in-memory, MySQL은 -p jdbcUrl로 지정)
+// fulltext: PostRepository.findSummariesByTitleOrTagNameFullText를 bench 테이블로 옮긴 쿼리 (match_against는 MySqlFunctionContributor와 같은 SQL), MySQL에서만 실행 가능
+//   ./gradlew jmh -Pjmh.includes=PostSearchBenchmark -Pjmh.args="-p backend=fulltext -p jdbcUrl=jdbc:mysql://localhost:3306/bench?user=root&rewriteBatchedStatements=true"
+// lucene: LucenePostSearchEngine (로컬 임시 디렉터리 색인), 게시글 요약은 메모리에서 조회
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PostSearchBenchmark {
+
+    private static final String[] WORDS = {
+            "스프링", "트랜잭션", "인덱스", "캐시", "쿼리", "배포", "테스트", "성능", "보안", "동시성",
+            "spring", "jpa", "mysql", "redis", "docker", "kotlin", "java", "lucene", "kafka", "react"
+    };
+    private static final int TAG_COUNT = 1000;
+    private static final int INSERT_BATCH_SIZE = 5000;
+    private static final Pageable PAGEABLE = PageRequest.of(0, 10);
+
+    private static final String LIKE_SQL = """
+            SELECT p.id, p.title FROM bench_post p
+            WHERE p.is_deleted = false
+            AND (LOWER(p.title) LIKE LOWER(CONCAT('%', ?, '%'))
+                OR EXISTS (SELECT 1 FROM bench_post_tag pt JOIN bench_tag t ON t.id = pt.tag_id
+                    WHERE pt.post_id = p.id AND LOWER(t.name) LIKE LOWER(CONCAT('%', ?, '%'))))
+            ORDER BY p.created_at DESC
+            LIMIT 10
+            """;
+    private static final String LIKE_COUNT_SQL = """
+            SELECT COUNT(*) FROM bench_post p
+            WHERE p.is_deleted = false
+            AND (LOWER(p.title) LIKE LOWER(CONCAT('%', ?, '%'))
+                OR EXISTS (SELECT 1 FROM bench_post_tag pt JOIN bench_tag t ON t.id = pt.tag_id
+                    WHERE pt.post_id = p.id AND LOWER(t.name) LIKE LOWER(CONCAT('%', ?, '%'))))
+            """;
+    // 제목 점수 + 가장 관련도가 높은 태그 점수 순, 쿼리를 바꾸면 PostRepository와 함께 수정
+    private static final String FULLTEXT_SQL = """
+            SELECT p.id, p.title FROM bench_post p
+            WHERE p.is_deleted = false
+            AND (MATCH(p.title) AGAINST(? IN BOOLEAN MODE) > 0
+                OR EXISTS (SELECT 1 FROM bench_post_tag pt JOIN bench_tag t ON t.id = pt.tag_id
+                    WHERE pt.post_id = p.id AND MATCH(t.name) AGAINST(? IN BOOLEAN MODE) > 0))
+            ORDER BY MATCH(p.title) AGAINST(? IN BOOLEAN MODE)
+                + COALESCE((SELECT MAX(MATCH(t.name) AGAINST(? IN BOOLEAN MODE))
+                    FROM bench_post_tag pt JOIN bench_tag t ON t.id = pt.tag_id
+                    WHERE pt.post_id = p.id), 0) DESC,
+                p.created_at DESC
+            LIMIT 10
+            """;
+    private static final String FULLTEXT_COUNT_SQL = """
+            SELECT COUNT(*) FROM bench_post p
+            WHERE p.is_deleted = false
+            AND (MATCH(p.title) AGAINST(? IN BOOLEAN MODE) > 0
+                OR EXISTS (SELECT 1 FROM bench_post_tag pt JOIN bench_tag t ON t.id = pt.tag_id
+                    WHERE pt.post_id = p.id AND MATCH(t.name) AGAINST(? IN BOOLEAN MODE) > 0))
+            """;
+
+    @Param({"1000000"})
+    private int postCount;
+
+    @Param({"like", "lucene"})
+    private String backend;
+
+    @Param({"트랜잭션", "spring"})
+    private String keyword;
+
+    @Param({"jdbc:h2:mem:search;MODE=MySQL;DB_CLOSE_DELAY=-1"})
+    private String jdbcUrl;
+
+    private PostSummaryVO[] postSummaries;
+    private String[] tagNames;
+    private Connection connection;
+    private PreparedStatement searchStatement;
+    private PreparedStatement countStatement;
+    private int searchParameterCount;
+    private LucenePostSearchEngine lucenePostSearchEngine;
+    private Path indexPath;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        generatePosts();
+
+        switch (backend) {
+            case "like" -> setupSql(LIKE_SQL, LIKE_COUNT_SQL, 2, false);
+            case "fulltext" -> setupSql(FULLTEXT_SQL, FULLTEXT_COUNT_SQL, 4, true);
+            case "lucene" -> setupLucene();
+            default -> throw new IllegalArgumentException(backend);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (lucenePostSearchEngine != null) {
+            lucenePostSearchEngine.destroy();
+            FileSystemUtils.deleteRecursively(indexPath);
+        }
+        if (connection != null) {
+            try (Statement statement = connection.createStatement()) {
+                dropTables(statement);
+            }
+            connection.close();
+        }
+    }
+
+    @Benchmark
+    public List<UUID> search() throws SQLException {
+        if (lucenePostSearchEngine != null) {
+            return lucenePostSearchEngine.search(keyword, SearchOption.ALL, PAGEABLE).stream()
+                    .map(PostSummaryVO::getId)
+                    .toList();
+        }
+
+        return searchSql();
+    }
+
+    private List<UUID> searchSql() throws SQLException {
+        String value = "fulltext".equals(backend) ? "\"" + keyword + "\"" : keyword;
+        for (int i = 1; i <= searchParameterCount; i++) {
+            searchStatement.setString(i, value);
+        }
+        countStatement.setString(1, value);
+        countStatement.setString(2, value);
+
+        List<UUID> postIds = new ArrayList<>();
+        try (ResultSet resultSet = searchStatement.executeQuery()) {
+            while (resultSet.next()) {
+                postIds.add(postSummaries[(int) resultSet.getLong(1)].getId());
+            }
+        }
+        try (ResultSet resultSet = countStatement.executeQuery()) {
+            resultSet.next();
+        }
+
+        return postIds;
+    }
+
+    // 제목은 단어 3개 + 번호, 태그는 게시글마다 2개 (같은 seed로 backend 간 동일한 데이터)
+    private void generatePosts() {
+        Random random = new Random(42);
+        tagNames = new String[TAG_COUNT];
+        for (int i = 0; i < TAG_COUNT; i++) {
+            tagNames[i] = WORDS[random.nextInt(WORDS.length)] + i;
+        }
+
+        postSummaries = new PostSummaryVO[postCount];
+        for (int i = 0; i < postCount; i++) {
+            String title = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " "
+                    + WORDS[random.nextInt(WORDS.length)] + " " + i;
+            postSummaries[i] = PostSummaryVO.builder()
+                    .id(new UUID(0L, i))
+                    .title(title)
+                    .username("benchmark")
+                    .build();
+        }
+    }
+
+    private List<Integer> getTagIndexes(int postIndex) {
+        return List.of(postIndex % TAG_COUNT, (postIndex * 31 + 7) % TAG_COUNT);
+    }
+
+    private void setupSql(String searchSql, String countSql, int parameterCount, boolean fullText) throws SQLException {
+        connection = DriverManager.getConnection(jdbcUrl);
+        try (Statement statement = connection.createStatement()) {
+            dropTables(statement);
+            statement.execute("CREATE TABLE bench_tag (id INT PRIMARY KEY, name VARCHAR(255) NOT NULL)");
+            statement.execute("""
+                    CREATE TABLE bench_post (
+                        id BIGINT PRIMARY KEY,
+                        title VARCHAR(255) NOT NULL,
+                        is_deleted BOOLEAN NOT NULL,
+                        created_at BIGINT NOT NULL
+                    )
+                    """);
+            statement.execute("CREATE TABLE bench_post_tag (post_id BIGINT NOT NULL, tag_id INT NOT NULL, PRIMARY KEY (post_id, tag_id))");
+        }
+
+        connection.setAutoCommit(false);
+        try (PreparedStatement tagStatement = connection.prepareStatement("INSERT INTO bench_tag VALUES (?, ?)")) {
+            for (int i = 0; i < TAG_COUNT; i++) {
+                tagStatement.setInt(1, i);
+                tagStatement.setString(2, tagNames[i]);
+                tagStatement.addBatch();
+            }
+            tagStatement.executeBatch();
+        }
+        try (PreparedStatement postStatement = connection.prepareStatement("INSERT INTO bench_post VALUES (?, ?, false, ?)");
+             PreparedStatement postTagStatement = connection.prepareStatement("INSERT INTO bench_post_tag VALUES (?, ?)")) {
+            for (int i = 0; i < postCount; i++) {
+                postStatement.setLong(1, i);
+                postStatement.setString(2, postSummaries[i].getTitle());
+                postStatement.setLong(3, i);
+                postStatement.addBatch();
+                for (int tagIndex : getTagIndexes(i)) {
+                    postTagStatement.setLong(1, i);
+                    postTagStatement.setInt(2, tagIndex);
+                    postTagStatement.addBatch();
+                }
+
+                if ((i + 1) % INSERT_BATCH_SIZE == 0 || i == postCount - 1) {
+                    postStatement.executeBatch();
+                    postTagStatement.executeBatch();
+                    connection.commit();
+                }
+            }
+        }
+        connection.setAutoCommit(true);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE INDEX idx_bench_post_is_deleted_created_at ON bench_post (is_deleted, created_at)");
+            if (fullText) {
+                statement.execute("CREATE FULLTEXT INDEX ft_bench_post_title ON bench_post (title) WITH PARSER ngram");
+                statement.execute("CREATE FULLTEXT INDEX ft_bench_tag_name ON bench_tag (name) WITH PARSER ngram");
+            }
+        }
+
+        searchStatement = connection.prepareStatement(searchSql);
+        searchParameterCount = parameterCount;
+        countStatement = connection.prepareStatement(countSql);
+    }
+
+    private void dropTables(Statement statement) throws SQLException {
+        statement.execute("DROP TABLE IF EXISTS bench_post_tag");
+        statement.execute("DROP TABLE IF EXISTS bench_post");
+        statement.execute("DROP TABLE IF EXISTS bench_tag");
+    }
+
+    private void setupLucene() throws IOException {
+        indexPath = Files.createTempDirectory("post-search-benchmark");
+        lucenePostSearchEngine = new LucenePostSearchEngine(createPostRepository());
+        ReflectionTestUtils.setField(lucenePostSearchEngine, "indexPath", indexPath.toString());
+        // 색인이 비어 있으므로 전체 게시글로 재생성
+        lucenePostSearchEngine.afterPropertiesSet();
+    }
+
+    // 색인 재생성과 검색 결과 조회에 사용하는 메서드만 메모리의 게시글로 응답
+    private PostRepository createPostRepository() {
+        return (PostRepository) Proxy.newProxyInstance(PostRepository.class.getClassLoader(),
+                new Class<?>[]{PostRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findSummariesByIsDeletedFalse" -> findPage((Pageable) args[0]);
+                    case "findAllTagsByPostIdIn" -> findTags((Collection<?>) args[0]);
+                    case "findSummariesByIdIn" -> findSummaries((Collection<?>) args[0]);
+                    case "countByIsDeletedFalse" -> (long) postCount;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private Page<PostSummaryVO> findPage(Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), postCount);
+        int to = Math.min(from + pageable.getPageSize(), postCount);
+
+        return new PageImpl<>(Arrays.asList(postSummaries).subList(from, to), pageable, postCount);
+    }
+
+    private List<PostTagVO> findTags(Collection<?> postIds) {
+        List<PostTagVO> postTags = new ArrayList<>();
+        for (Object postId : postIds) {
+            int postIndex = (int) ((UUID) postId).getLeastSignificantBits();
+            for (int tagIndex : getTagIndexes(postIndex)) {
+                postTags.add(new PostTagVO((UUID) postId, new UUID(1L, tagIndex), tagNames[tagIndex]));
+            }
+        }
+
+        return postTags;
+    }
+
+    private List<PostSummaryVO> findSummaries(Collection<?> postIds) {
+        return postIds.stream()
+                .map(postId -> postSummaries[(int) ((UUID) postId).getLeastSignificantBits()])
+                .toList();
+    }
+}
@@ -0,0 +1,36 @@
+package api.store.diglog.common.auth;
+
+import api.store.diglog.common.config.CacheConfig;
+import api.store.diglog.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+
+// JWT subject(email) -> 회원 id, 요청 간에는 짧은 TTL 캐시로 재사용 (email과 id는 바뀌지 않으므로 엔티티 대신 id만 캐시)
+@Component
+@RequiredArgsConstructor
+public class CurrentMemberIdResolver {
+
+    // JWTFilter에서 요청마다 한 번 조회해 저장, MemberService.getCurrentMember에서 사용
+    public static final String CURRENT_MEMBER_ID_ATTRIBUTE = CurrentMemberIdResolver.class.getName() + ".memberId";
+
+    private final MemberRepository memberRepository;
+    private final CacheManager cacheManager;
+
+    public Optional<UUID> resolve(String email) {
+        Cache cache = cacheManager.getCache(CacheConfig.MEMBER);
+        UUID memberId = cache.get(email, UUID.class);
+        if (memberId != null) {
+            return Optional.of(memberId);
+        }
+
+        Optional<UUID> foundMemberId = memberRepository.findIdByEmail(email);
+        foundMemberId.ifPresent(id -> cache.put(email, id));
+
+        return foundMemberId;
+    }
+}
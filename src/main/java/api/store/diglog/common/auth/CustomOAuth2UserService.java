@@ -1,5 +1,6 @@
 package api.store.diglog.common.auth;
 
+import api.store.diglog.common.event.MemberChangedEvent;
 import api.store.diglog.common.exception.CustomException;
 import api.store.diglog.common.exception.ErrorCode;
 import api.store.diglog.model.constant.Role;
@@ -9,6 +10,7 @@ import api.store.diglog.model.dto.member.MemberInfoResponse;
 import api.store.diglog.model.entity.Member;
 import api.store.diglog.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
@@ -26,6 +28,7 @@ import java.util.stream.Collectors;
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
@@ -60,6 +63,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
                     .build();
 
             memberRepository.save(member);
+            eventPublisher.publishEvent(new MemberChangedEvent(member.getId(), member.getUsername()));
         } else {
 
             member = optionalMember.get();
@@ -6,7 +6,6 @@ import jakarta.servlet.ServletRequest;
 import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.GenericFilterBean;
 
@@ -16,6 +15,7 @@ import java.io.IOException;
 public class JWTFilter extends GenericFilterBean {
 
     private final JWTUtil jwtUtil;
+    private final CurrentMemberIdResolver currentMemberIdResolver;
 
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
@@ -24,11 +24,12 @@ public class JWTFilter extends GenericFilterBean {
         HttpServletRequest httpRequest = (HttpServletRequest) request;
 
         String authorization = httpRequest.getHeader("Authorization");
-        if (jwtUtil.validateToken(authorization)) {
-            String accessToken = jwtUtil.getAccessTokenFromAuthorization(authorization);
-            Authentication authentication = jwtUtil.getAuthentication(accessToken);
+        jwtUtil.authenticate(authorization).ifPresent(authentication -> {
             SecurityContextHolder.getContext().setAuthentication(authentication);
-        }
+            // 인증된 요청의 회원 id는 요청 안에서 한 번만 조회
+            currentMemberIdResolver.resolve(authentication.getName())
+                    .ifPresent(memberId -> request.setAttribute(CurrentMemberIdResolver.CURRENT_MEMBER_ID_ATTRIBUTE, memberId));
+        });
 
         chain.doFilter(request, response);
     }
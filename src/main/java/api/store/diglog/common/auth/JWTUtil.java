@@ -3,8 +3,12 @@ package api.store.diglog.common.auth;
 import api.store.diglog.model.constant.Role;
 import api.store.diglog.model.entity.Member;
 import api.store.diglog.model.vo.member.MemberInfoVO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import jakarta.servlet.http.Cookie;
@@ -21,9 +25,12 @@ import org.springframework.util.StringUtils;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -42,13 +49,24 @@ public class JWTUtil implements InitializingBean {
     private int refreshRenewSeconds;
     @Value("${spring.profiles.default}")
     private String envMode;
+    @Value("${jwt.cache.max-size:10000}")
+    private long verifiedTokenCacheSize;
     private SecretKey secretKey;
+    private JwtParser jwtParser;
+    private Cache<String, VerifiedToken> verifiedTokens;
     private final String AUTHORITIES_KEY = "auth";
 
     @Override
     public void afterPropertiesSet() {
         this.secretKey = new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8),
                 Jwts.SIG.HS512.key().build().getAlgorithm());
+        // JwtParser는 thread-safe하므로 하나만 생성해서 재사용
+        this.jwtParser = Jwts.parser().verifyWith(secretKey).build();
+        // 검증된 access 토큰은 토큰 만료 시각까지만 캐시
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedTokenCacheSize)
+                .expireAfter(new VerifiedTokenExpiry())
+                .build();
     }
 
     public String generateAccessToken(Member member) {
@@ -124,7 +142,7 @@ public class JWTUtil implements InitializingBean {
         }
 
         try {
-            Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(accessToken);
+            jwtParser.parseSignedClaims(accessToken);
             return true;
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException | ExpiredJwtException ignored) {
         }
@@ -138,7 +156,7 @@ public class JWTUtil implements InitializingBean {
         }
 
         try {
-            Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(refreshToken);
+            jwtParser.parseSignedClaims(refreshToken);
             return true;
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException | ExpiredJwtException ignored) {
         }
@@ -148,29 +166,58 @@ public class JWTUtil implements InitializingBean {
 
     // refresh 토큰 유효기간 확인
     public boolean shouldRenewRefresh(String jwt) {
-        Date expirationDate = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(jwt)
-                .getPayload()
-                .getExpiration();
+        Date expirationDate = getClaims(jwt).getExpiration();
 
         long remainingTime = expirationDate.getTime() - System.currentTimeMillis();
         return remainingTime < refreshRenewSeconds * 1000L;
     }
 
+    // Authorization 헤더 -> Authentication, 토큰을 한 번만 파싱/검증하고 검증 결과는 만료 시각까지 재사용
+    public Optional<Authentication> authenticate(String authorization) {
+        if (authorization == null || authorization.length() < 7) {
+            return Optional.empty();
+        }
+
+        String accessToken = getAccessTokenFromAuthorization(authorization);
+        if (!StringUtils.hasText(accessToken)) {
+            return Optional.empty();
+        }
+
+        VerifiedToken verifiedToken = verifiedTokens.getIfPresent(accessToken);
+        if (verifiedToken == null) {
+            try {
+                verifiedToken = toVerifiedToken(getClaims(accessToken));
+            } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException | ExpiredJwtException ignored) {
+                return Optional.empty();
+            }
+            verifiedTokens.put(accessToken, verifiedToken);
+        }
+
+        return Optional.of(toAuthentication(verifiedToken, accessToken));
+    }
+
     // jwt -> Authentication
     public Authentication getAuthentication(String jwt) {
-        Claims claims = getClaims(jwt);
+        return toAuthentication(toVerifiedToken(getClaims(jwt)), jwt);
+    }
 
-        Collection<? extends GrantedAuthority> authorities = Arrays
+    private VerifiedToken toVerifiedToken(Claims claims) {
+        List<GrantedAuthority> authorities = Arrays
                 .stream(claims.get(AUTHORITIES_KEY).toString().split(","))
                 .map(SimpleGrantedAuthority::new)
-                .collect(Collectors.toList());
+                .collect(Collectors.toUnmodifiableList());
 
-        User principal = new User(claims.getSubject(), "", authorities);
+        return new VerifiedToken(claims.getSubject(), authorities, claims.getExpiration().toInstant());
+    }
+
+    private Authentication toAuthentication(VerifiedToken verifiedToken, String jwt) {
+        User principal = new User(verifiedToken.subject(), "", verifiedToken.authorities());
+
+        return new UsernamePasswordAuthenticationToken(principal, jwt, verifiedToken.authorities());
+    }
 
-        return new UsernamePasswordAuthenticationToken(principal, jwt, authorities);
+    public Instant getExpiration(String jwt) {
+        return getClaims(jwt).getExpiration().toInstant();
     }
 
     // jwt -> MemberInfo
@@ -188,15 +235,31 @@ public class JWTUtil implements InitializingBean {
     }
 
     private Claims getClaims(String jwt) {
-        return Jwts
-                .parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(jwt)
-                .getPayload();
+        return jwtParser.parseSignedClaims(jwt).getPayload();
     }
 
     public String getAccessTokenFromAuthorization(String authorization) {
         return authorization.substring(7);
     }
+
+    private record VerifiedToken(String subject, List<GrantedAuthority> authorities, Instant expiration) {
+    }
+
+    private static class VerifiedTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String token, VerifiedToken verifiedToken, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), verifiedToken.expiration()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, VerifiedToken verifiedToken, long currentTime, long currentDuration) {
+            return expireAfterCreate(token, verifiedToken, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, VerifiedToken verifiedToken, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
@@ -0,0 +1,77 @@
+package api.store.diglog.common.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+// 캐시별 TTL/최대 크기 지정, recordStats로 hit/miss/eviction을 Micrometer(cache_gets, cache_evictions)에 노출
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String PROFILE_URL = "profileUrl";
+    public static final String MEMBER = "member";
+    public static final String FOLDER_POST_COUNT = "folderPostCount";
+    public static final String TAG_ID = "tagId";
+    public static final String POST = "post";
+    public static final String POST_VIEW_COUNT = "postViewCount";
+
+    @Value("${cache.profile-url.ttl:10m}")
+    private Duration profileUrlTtl;
+    @Value("${cache.profile-url.max-size:10000}")
+    private long profileUrlMaxSize;
+    @Value("${cache.member.ttl:30s}")
+    private Duration memberTtl;
+    @Value("${cache.member.max-size:10000}")
+    private long memberMaxSize;
+    @Value("${cache.folder-post-count.ttl:10m}")
+    private Duration folderPostCountTtl;
+    @Value("${cache.folder-post-count.max-size:10000}")
+    private long folderPostCountMaxSize;
+    @Value("${cache.tag-id.ttl:1h}")
+    private Duration tagIdTtl;
+    @Value("${cache.tag-id.max-size:10000}")
+    private long tagIdMaxSize;
+    @Value("${cache.post.ttl:10m}")
+    private Duration postTtl;
+    @Value("${cache.post.max-size:10000}")
+    private long postMaxSize;
+    @Value("${cache.post-view-count.ttl:10m}")
+    private Duration postViewCountTtl;
+    @Value("${cache.post-view-count.max-size:10000}")
+    private long postViewCountMaxSize;
+
+    @Bean
+    public CacheManager cacheManager() {
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(
+                caffeineCache(PROFILE_URL, profileUrlTtl, profileUrlMaxSize),
+                caffeineCache(MEMBER, memberTtl, memberMaxSize),
+                caffeineCache(FOLDER_POST_COUNT, folderPostCountTtl, folderPostCountMaxSize),
+                caffeineCache(TAG_ID, tagIdTtl, tagIdMaxSize),
+                caffeineCache(POST, postTtl, postMaxSize),
+                caffeineCache(POST_VIEW_COUNT, postViewCountTtl, postViewCountMaxSize)
+        ));
+        cacheManager.initializeCaches();
+
+        // 트랜잭션 안에서의 evict/put은 커밋 이후에 반영
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+    private CaffeineCache caffeineCache(String name, Duration ttl, long maxSize) {
+        return new CaffeineCache(name, Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build());
+    }
+}
@@ -0,0 +1,20 @@
+package api.store.diglog.common.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+// JPQL에서 MySQL FULLTEXT 검색을 사용하기 위한 함수 등록 (META-INF/services로 등록)
+public class MySqlFunctionContributor implements FunctionContributor {
+
+	@Override
+	public void contributeFunctions(FunctionContributions functionContributions) {
+		functionContributions.getFunctionRegistry().registerPattern(
+			"match_against",
+			"match(?1) against(?2 in boolean mode)",
+			functionContributions.getTypeConfiguration()
+				.getBasicTypeRegistry()
+				.resolve(StandardBasicTypes.DOUBLE)
+		);
+	}
+}
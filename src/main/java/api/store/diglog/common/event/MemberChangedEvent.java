@@ -0,0 +1,15 @@
+package api.store.diglog.common.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+// 회원 가입, username 변경 시 발행 (트랜잭션 커밋 이후 처리), 변경된 username을 함께 전달
+@Getter
+@AllArgsConstructor
+public class MemberChangedEvent {
+
+    private final UUID memberId;
+    private final String username;
+}
@@ -0,0 +1,14 @@
+package api.store.diglog.common.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+// 게시글 저장, 수정, 삭제 시 발행 (트랜잭션 커밋 이후 처리)
+@Getter
+@AllArgsConstructor
+public class PostChangedEvent {
+
+    private final UUID postId;
+}
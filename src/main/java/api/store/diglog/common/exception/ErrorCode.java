@@ -27,7 +27,9 @@ public enum ErrorCode {
 	// S3
 	S3_WRONG_FILE(BAD_REQUEST, "이미지 Byte를 얻는데 실패했습니다. 이미지를 다시 확인해주세요."),
 	S3_IMAGE_UPLOAD_FAILED(INTERNAL_SERVER_ERROR, "파일 업로드에 실패했습니다."),
+	S3_IMAGE_UPLOAD_BUSY(SERVICE_UNAVAILABLE, "파일 업로드 요청이 많습니다. 잠시 후 다시 시도해주세요."),
 	S3_IMAGE_DELETE_FAILED(INTERNAL_SERVER_ERROR, "파일 삭제에 실패했습니다."),
+	S3_IMAGE_DOWNLOAD_FAILED(INTERNAL_SERVER_ERROR, "파일 다운로드에 실패했습니다."),
 
 	// Post
 	POST_NOT_FOUND(BAD_REQUEST, "해당 게시글이 없습니다."),
@@ -35,6 +37,10 @@ public enum ErrorCode {
 	POST_DELETE_FAILED(FORBIDDEN, "게시글 삭제가 완료되지 않았습니다."),
 	POST_NO_PERMISSION(FORBIDDEN, "게시글 수정 권한이 없습니다."),
 	POST_INVALID_SEARCH_OPTION(BAD_REQUEST, "올바르지 않은 검색 옵션입니다."),
+	POST_INVALID_CURSOR(BAD_REQUEST, "올바르지 않은 커서입니다."),
+	POST_INVALID_SIZE(BAD_REQUEST, "조회 개수는 1 이상 %d 이하여야 합니다."),
+	POST_EMPTY_IDS(BAD_REQUEST, "폴더를 변경할 게시글이 없습니다."),
+	POST_SEARCH_FAILED(INTERNAL_SERVER_ERROR, "게시글 검색에 실패했습니다."),
 
 	// Folder
 	FOLDER_OVER_FLOW_DEPTH(BAD_REQUEST, "하위 폴더의 깊이는 %d까지 허용됩니다."),
@@ -0,0 +1,70 @@
+package api.store.diglog.common.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+// 텍스트 컬럼에 저장하는 압축 형식: header(\u0001 + version) + 앞부분 평문(목록 excerpt용) + \u0001 + Base64(Deflate(UTF-8))
+public class CompressionUtil {
+
+    private static final char MARKER = '\u0001';
+    // 압축 형식의 시작 문자 (SQL에서 압축되지 않은 row를 찾을 때 사용)
+    public static final String COMPRESSED_PREFIX = String.valueOf(MARKER);
+    private static final char VERSION = '1';
+    private static final int HEADER_LENGTH = 2;
+    private static final int PREFIX_LENGTH = 200;
+
+    static public boolean isCompressed(String value) {
+        return value != null && value.startsWith(COMPRESSED_PREFIX);
+    }
+
+    static public String compress(String value) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (DeflaterOutputStream deflaterOutputStream = new DeflaterOutputStream(outputStream)) {
+            deflaterOutputStream.write(value.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        String prefix = truncate(value, PREFIX_LENGTH).replace(COMPRESSED_PREFIX, "");
+        return "" + MARKER + VERSION + prefix + MARKER + Base64.getEncoder().encodeToString(outputStream.toByteArray());
+    }
+
+    static public String decompress(String value) {
+        if (value.length() < HEADER_LENGTH || value.charAt(1) != VERSION) {
+            throw new IllegalStateException("Unknown compression version");
+        }
+
+        byte[] bytes = Base64.getDecoder().decode(value.substring(value.indexOf(MARKER, HEADER_LENGTH) + 1));
+        try (InflaterInputStream inflaterInputStream = new InflaterInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(inflaterInputStream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 평문 또는 압축 형식의 앞부분에서 excerpt (최대 length자)
+    static public String toExcerpt(String value, int length) {
+        if (!isCompressed(value)) {
+            return truncate(value, length);
+        }
+
+        int end = value.indexOf(MARKER, HEADER_LENGTH);
+        return truncate(value.substring(HEADER_LENGTH, end < 0 ? value.length() : end), length);
+    }
+
+    // surrogate pair가 잘리지 않도록 자름
+    static private String truncate(String value, int length) {
+        if (value == null || value.length() <= length) {
+            return value;
+        }
+
+        int end = Character.isHighSurrogate(value.charAt(length - 1)) ? length - 1 : length;
+        return value.substring(0, end);
+    }
+}
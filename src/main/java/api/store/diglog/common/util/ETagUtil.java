@@ -0,0 +1,16 @@
+package api.store.diglog.common.util;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+public class ETagUtil {
+
+    private static final String DELIMITER = "|";
+
+    // 응답 내용을 결정하는 값들의 SHA-256, 강한 검증자(strong ETag)로 사용
+    static public String of(Object... values) {
+        return HashUtil.sha256(Arrays.stream(values)
+                .map(String::valueOf)
+                .collect(Collectors.joining(DELIMITER)));
+    }
+}
@@ -2,35 +2,96 @@ package api.store.diglog.common.util;
 
 import api.store.diglog.common.exception.CustomException;
 import api.store.diglog.common.exception.ErrorCode;
-import lombok.RequiredArgsConstructor;
+import api.store.diglog.model.entity.ImageDeleteOutbox;
+import api.store.diglog.repository.ImageDeleteOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
 
-import java.net.URI;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.*;
 
+@Slf4j
 @Component
-@RequiredArgsConstructor
-public class S3Util {
+public class S3Util implements DisposableBean {
+
+    private static final int DELETE_BATCH_SIZE = 1000;
 
     private final S3Client s3Client;
+    private final ImageDeleteOutboxRepository imageDeleteOutboxRepository;
+    // 동시 업로드 수를 제한하는 업로드 전용 스레드 풀 (큐가 가득 차면 S3_IMAGE_UPLOAD_BUSY)
+    private final ThreadPoolExecutor uploadExecutor;
+    private final Duration uploadTimeout;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
     @Value("${cloud.aws.region.static}")
     private String region;
 
-    // 이미지를 업로드하고 이미지 url을 반환
+    public S3Util(S3Client s3Client,
+                  ImageDeleteOutboxRepository imageDeleteOutboxRepository,
+                  @Value("${s3.upload.pool-size:8}") int poolSize,
+                  @Value("${s3.upload.queue-capacity:32}") int queueCapacity,
+                  @Value("${s3.upload.timeout:60s}") Duration uploadTimeout) {
+        this.s3Client = s3Client;
+        this.imageDeleteOutboxRepository = imageDeleteOutboxRepository;
+        this.uploadExecutor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("s3-upload-"));
+        this.uploadTimeout = uploadTimeout;
+    }
+
+    @Override
+    public void destroy() {
+        uploadExecutor.shutdown();
+    }
+
+    // 이미지를 업로드하고 이미지 url을 반환 (S3가 PutObject를 완료한 이후 반환)
+    // 업로드 풀로 동시 업로드 수와 대기 시간을 제한할 뿐, 요청 스레드는 완료될 때까지 기다림 (multipart 임시 파일 때문)
     public String uploadImage(MultipartFile file) {
         String filePath = getFilePath(file);
+        Future<String> future = submitUpload(filePath, file);
+
+        try {
+            return future.get(uploadTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CustomException customException) {
+                throw customException;
+            }
+            throw new CustomException(ErrorCode.S3_IMAGE_UPLOAD_FAILED);
+        } catch (TimeoutException e) {
+            // 업로드 스레드를 interrupt해 전송을 중단하고, 이미 저장되었을 수 있는 객체는 outbox로 삭제
+            future.cancel(true);
+            enqueueDeletion(filePath);
+            throw new CustomException(ErrorCode.S3_IMAGE_UPLOAD_FAILED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            enqueueDeletion(filePath);
+            throw new CustomException(ErrorCode.S3_IMAGE_UPLOAD_FAILED);
+        }
+    }
+
+    // multipart 요청이 끝나면 임시 파일이 삭제되므로, 요청 스레드에서 완료를 기다려야 함
+    public Future<String> uploadImageAsync(MultipartFile file) {
+        return submitUpload(getFilePath(file), file);
+    }
 
+    // cancel(true)가 실행 중인 업로드 스레드를 interrupt하도록 FutureTask로 실행 (CompletableFuture는 interrupt하지 않음)
+    private Future<String> submitUpload(String filePath, MultipartFile file) {
         PutObjectRequest putObjectRequest = PutObjectRequest.builder()
                 .bucket(bucket)
                 .key(filePath)
@@ -38,12 +99,78 @@ public class S3Util {
                 .contentLength(file.getSize())
                 .build();
 
-        PutObjectResponse response = s3Client.putObject(putObjectRequest, getRequestBody(file));
-        if (response.sdkHttpResponse().statusCode() != 200) {
+        FutureTask<String> task = new FutureTask<>(() -> {
+            putObject(putObjectRequest, file);
+            return getUrl(filePath);
+        });
+        try {
+            uploadExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            throw new CustomException(ErrorCode.S3_IMAGE_UPLOAD_BUSY);
+        }
+
+        return task;
+    }
+
+    private void enqueueDeletion(String filePath) {
+        try {
+            imageDeleteOutboxRepository.save(ImageDeleteOutbox.builder()
+                    .url(getUrl(filePath))
+                    .build());
+        } catch (RuntimeException e) {
+            // OrphanImageCollector가 참조되지 않는 이미지로 삭제
+            log.warn("Failed to enqueue deletion of timed out upload {}", filePath, e);
+        }
+    }
+
+    // 파일 전체를 메모리에 올리지 않고 스트림으로 전송
+    private PutObjectResponse putObject(PutObjectRequest putObjectRequest, MultipartFile file) {
+        try (InputStream inputStream = file.getInputStream()) {
+            PutObjectResponse response = s3Client.putObject(putObjectRequest,
+                    RequestBody.fromInputStream(inputStream, file.getSize()));
+            if (response.sdkHttpResponse().statusCode() != 200) {
+                throw new CustomException(ErrorCode.S3_IMAGE_UPLOAD_FAILED);
+            }
+
+            return response;
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.S3_WRONG_FILE);
+        }
+    }
+
+    // 서버에서 생성한 파일 (리사이즈 이미지 등) 업로드, 호출 스레드에서 바로 전송
+    public String uploadImage(String key, byte[] bytes, String contentType) {
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .contentLength((long) bytes.length)
+                .build();
+
+        try {
+            PutObjectResponse response = s3Client.putObject(putObjectRequest, RequestBody.fromBytes(bytes));
+            if (response.sdkHttpResponse().statusCode() != 200) {
+                throw new CustomException(ErrorCode.S3_IMAGE_UPLOAD_FAILED);
+            }
+        } catch (SdkException e) {
             throw new CustomException(ErrorCode.S3_IMAGE_UPLOAD_FAILED);
         }
 
-        return "https://" + bucket + ".s3." + region + ".amazonaws.com/" + filePath;
+        return getUrl(key);
+    }
+
+    // 호출하는 쪽에서 스트림을 닫아야 함
+    public InputStream getImage(String url) {
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(getKey(url))
+                .build();
+
+        try {
+            return s3Client.getObject(getObjectRequest);
+        } catch (SdkException e) {
+            throw new CustomException(ErrorCode.S3_IMAGE_DOWNLOAD_FAILED);
+        }
     }
 
     private String getFilePath(MultipartFile file) {
@@ -57,38 +184,58 @@ public class S3Util {
         return folderPath + fileName;
     }
 
-    private RequestBody getRequestBody(MultipartFile file) {
-        try {
-            return RequestBody.fromBytes(file.getBytes());
-        } catch (Exception e) {
-            throw new CustomException(ErrorCode.S3_WRONG_FILE);
-        }
-    }
+    // DeleteObjects 요청당 최대 1,000개씩 삭제하고, 삭제에 실패한 이미지 url을 반환
+    public List<String> deleteImages(List<String> urls) {
+        List<String> failedUrls = new ArrayList<>();
 
-    public void deleteImages(List<String> urls) {
         try {
-            List<ObjectIdentifier> objectIdentifiers = urls.stream()
-                    .map(url -> ObjectIdentifier.builder()
-                            .key(getKey(url))
-                            .build())
-                    .toList();
-            Delete delete = Delete.builder()
-                    .objects(objectIdentifiers)
-                    .build();
-            DeleteObjectsRequest deleteObjectsRequest = DeleteObjectsRequest.builder()
-                    .bucket(bucket)
-                    .delete(delete)
-                    .build();
-
-            if (!objectIdentifiers.isEmpty()) {
-                s3Client.deleteObjects(deleteObjectsRequest);
+            for (int from = 0; from < urls.size(); from += DELETE_BATCH_SIZE) {
+                List<ObjectIdentifier> objectIdentifiers = urls.subList(from, Math.min(from + DELETE_BATCH_SIZE, urls.size())).stream()
+                        .map(url -> ObjectIdentifier.builder()
+                                .key(getKey(url))
+                                .build())
+                        .toList();
+                Delete delete = Delete.builder()
+                        .objects(objectIdentifiers)
+                        .quiet(true)
+                        .build();
+                DeleteObjectsRequest deleteObjectsRequest = DeleteObjectsRequest.builder()
+                        .bucket(bucket)
+                        .delete(delete)
+                        .build();
+
+                s3Client.deleteObjects(deleteObjectsRequest).errors()
+                        .forEach(error -> failedUrls.add(getUrl(error.key())));
             }
         } catch (Exception e) {
             throw new CustomException(ErrorCode.S3_IMAGE_DELETE_FAILED);
         }
+
+        return failedUrls;
+    }
+
+    // prefix 아래 객체를 key 순서로 pageSize씩 조회, 다음 페이지는 순회할 때 요청 (버킷 크기와 관계없이 한 페이지만 메모리에 유지)
+    public Iterable<List<S3Object>> listImages(String prefix, int pageSize) {
+        ListObjectsV2Request listObjectsV2Request = ListObjectsV2Request.builder()
+                .bucket(bucket)
+                .prefix(prefix)
+                .maxKeys(pageSize)
+                .build();
+
+        return () -> s3Client.listObjectsV2Paginator(listObjectsV2Request).stream()
+                .map(ListObjectsV2Response::contents)
+                .iterator();
+    }
+
+    public String getUrl(String key) {
+        return getUrlPrefix() + key;
+    }
+
+    public String getKey(String url) {
+        return url.substring(getUrlPrefix().length());
     }
 
-    private String getKey(String url) {
-        return url.substring(48);
+    private String getUrlPrefix() {
+        return "https://" + bucket + ".s3." + region + ".amazonaws.com/";
     }
 }
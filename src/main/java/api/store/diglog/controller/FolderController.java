@@ -10,11 +10,13 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import api.store.diglog.model.dto.folder.FolderCreateRequest;
 import api.store.diglog.model.dto.folder.FolderDeleteRequest;
 import api.store.diglog.model.dto.folder.FolderPostCountResponse;
 import api.store.diglog.model.dto.folder.FolderResponse;
+import api.store.diglog.model.vo.folder.FolderVersionVO;
 import api.store.diglog.service.FolderService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -28,9 +30,14 @@ public class FolderController {
 
 	@GetMapping("/{username}")
 	public ResponseEntity<List<FolderPostCountResponse>> getFoldersWithPostCountBy(
-		@PathVariable("username") String username) {
+		@PathVariable("username") String username,
+		WebRequest webRequest) {
 
 		List<FolderPostCountResponse> folderPostCountResponses = folderService.getFoldersWithPostCount(username);
+		if (webRequest.checkNotModified(FolderVersionVO.from(folderPostCountResponses).getETag())) {
+			return null;
+		}
+
 		return ResponseEntity.ok().body(folderPostCountResponses);
 	}
 
@@ -2,6 +2,7 @@ package api.store.diglog.controller;
 
 import api.store.diglog.model.dto.image.ImageRequest;
 import api.store.diglog.model.dto.image.ImageUrlResponse;
+import api.store.diglog.model.dto.member.MemberProfileAutocompleteRequest;
 import api.store.diglog.model.dto.member.MemberProfileInfoResponse;
 import api.store.diglog.model.dto.member.MemberProfileResponse;
 import api.store.diglog.model.dto.member.MemberProfileSearchRequest;
@@ -14,6 +15,8 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/member")
 @RequiredArgsConstructor
@@ -49,6 +52,13 @@ public class MemberController {
         return ResponseEntity.ok().body(memberProfileInfoResponses);
     }
 
+    @GetMapping("/profile/autocomplete")
+    public ResponseEntity<List<MemberProfileInfoResponse>> autocompleteByUsername(@ParameterObject @ModelAttribute MemberProfileAutocompleteRequest memberProfileAutocompleteRequest) {
+        List<MemberProfileInfoResponse> memberProfileInfoResponses = memberService.autocompleteProfileByUsername(memberProfileAutocompleteRequest);
+
+        return ResponseEntity.ok().body(memberProfileInfoResponses);
+    }
+
     @PostMapping(
             value = "/image",
             consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
@@ -1,12 +1,15 @@
 package api.store.diglog.controller;
 
 import api.store.diglog.model.dto.post.*;
+import api.store.diglog.model.vo.post.PostVersionVO;
 import api.store.diglog.service.PostService;
+import api.store.diglog.service.PostViewCountService;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.UUID;
 
@@ -16,6 +19,7 @@ import java.util.UUID;
 public class PostController {
 
     private final PostService postService;
+    private final PostViewCountService postViewCountService;
 
     @PostMapping
     public ResponseEntity<Void> save(@RequestBody PostRequest postRequest) {
@@ -39,38 +43,59 @@ public class PostController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<PostResponse> getPost(@PathVariable("id") UUID id) {
+    public ResponseEntity<PostResponse> getPost(@PathVariable("id") UUID id, WebRequest webRequest) {
         PostResponse postResponse = postService.getPost(id);
+        postViewCountService.increase(id);
 
-        return ResponseEntity.ok().body(postResponse);
+        // 조회수는 검증자에 포함하지 않음 (조회할 때마다 바뀌므로)
+        PostVersionVO postVersion = PostVersionVO.from(postResponse);
+        if (webRequest.checkNotModified(postVersion.getETag())) {
+            return null;
+        }
+
+        return ResponseEntity.ok().body(postViewCountService.applyViewCount(postResponse));
     }
 
     @GetMapping
-    public ResponseEntity<Page<PostResponse>> getPosts(@ParameterObject @ModelAttribute PostListSearchRequest postListSearchRequest) {
-        Page<PostResponse> postResponses = postService.getPosts(postListSearchRequest);
+    public ResponseEntity<Page<PostSummaryResponse>> getPosts(@ParameterObject @ModelAttribute PostListSearchRequest postListSearchRequest) {
+        Page<PostSummaryResponse> postSummaryResponses = postService.getPosts(postListSearchRequest);
 
-        return ResponseEntity.ok().body(postResponses);
+        return ResponseEntity.ok().body(postSummaryResponses);
+    }
+
+    @GetMapping("/cursor")
+    public ResponseEntity<PostCursorResponse> getPostsByCursor(@ParameterObject @ModelAttribute PostListCursorRequest postListCursorRequest) {
+        PostCursorResponse postCursorResponse = postService.getPostsByCursor(postListCursorRequest);
+
+        return ResponseEntity.ok().body(postCursorResponse);
     }
 
     @GetMapping("/member")
-    public ResponseEntity<Page<PostResponse>> getMemberPosts(@ParameterObject @ModelAttribute PostListMemberRequest postListMemberRequest) {
-        Page<PostResponse> postResponses = postService.getMemberPosts(postListMemberRequest);
+    public ResponseEntity<Page<PostSummaryResponse>> getMemberPosts(@ParameterObject @ModelAttribute PostListMemberRequest postListMemberRequest,
+                                                                    WebRequest webRequest) {
+        // 변경이 없으면 목록을 조회하지 않고 304 응답
+        PostVersionVO postVersion = postService.getMemberPostsVersion(postListMemberRequest.getUsername());
+        if (webRequest.checkNotModified(postVersion.getETag())) {
+            return null;
+        }
+
+        Page<PostSummaryResponse> postSummaryResponses = postService.getMemberPosts(postListMemberRequest);
 
-        return ResponseEntity.ok().body(postResponses);
+        return ResponseEntity.ok().body(postSummaryResponses);
     }
 
     @GetMapping("/member/tag")
-    public ResponseEntity<Page<PostResponse>> getMemberTagPosts(@ParameterObject @ModelAttribute PostListMemberTagRequest postListMemberTagRequest) {
-        Page<PostResponse> postResponses = postService.getMemberTagPosts(postListMemberTagRequest);
+    public ResponseEntity<Page<PostSummaryResponse>> getMemberTagPosts(@ParameterObject @ModelAttribute PostListMemberTagRequest postListMemberTagRequest) {
+        Page<PostSummaryResponse> postSummaryResponses = postService.getMemberTagPosts(postListMemberTagRequest);
 
-        return ResponseEntity.ok().body(postResponses);
+        return ResponseEntity.ok().body(postSummaryResponses);
     }
 
     @GetMapping("/search")
-    public ResponseEntity<Page<PostResponse>> searchPosts(@ParameterObject @ModelAttribute PostListSearchRequest postListSearchRequest) {
-        Page<PostResponse> postResponses = postService.searchPosts(postListSearchRequest);
+    public ResponseEntity<Page<PostSummaryResponse>> searchPosts(@ParameterObject @ModelAttribute PostListSearchRequest postListSearchRequest) {
+        Page<PostSummaryResponse> postSummaryResponses = postService.searchPosts(postListSearchRequest);
 
-        return ResponseEntity.ok().body(postResponses);
+        return ResponseEntity.ok().body(postSummaryResponses);
     }
 
     @PatchMapping("/delete/{id}")
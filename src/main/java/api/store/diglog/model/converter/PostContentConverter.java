@@ -0,0 +1,87 @@
+package api.store.diglog.model.converter;
+
+import api.store.diglog.common.util.CompressionUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+// threshold보다 긴 게시글 본문을 압축해 저장 (post.content.compression.enabled=true), 읽기는 설정과 관계없이 두 형식 모두 지원
+@Component
+@Converter
+public class PostContentConverter implements AttributeConverter<String, String> {
+
+    // Base64, header를 포함해도 압축 효과가 있는 최소 길이
+    private static final int MIN_THRESHOLD = 1024;
+
+    private final boolean enabled;
+    private final int threshold;
+
+    private final Counter savedBytesCounter;
+    private final Timer decodeTimer;
+
+    public PostContentConverter(MeterRegistry meterRegistry,
+                                @Value("${post.content.compression.enabled:false}") boolean enabled,
+                                @Value("${post.content.compression.threshold:4096}") int threshold) {
+        this.enabled = enabled;
+        this.threshold = Math.max(threshold, MIN_THRESHOLD);
+
+        this.savedBytesCounter = Counter.builder("post.content.compression.saved")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.decodeTimer = meterRegistry.timer("post.content.compression.decode");
+    }
+
+    @Override
+    public String convertToDatabaseColumn(String content) {
+        if (content == null) {
+            return null;
+        }
+
+        // 압축 header로 시작하는 평문은 읽을 때 구분할 수 없으므로 항상 압축
+        if (CompressionUtil.isCompressed(content)) {
+            return CompressionUtil.compress(content);
+        }
+        if (!enabled || content.length() <= threshold) {
+            return content;
+        }
+
+        String compressed = compress(content);
+        return compressed == null ? content : compressed;
+    }
+
+    @Override
+    public String convertToEntityAttribute(String column) {
+        if (!CompressionUtil.isCompressed(column)) {
+            return column;
+        }
+
+        return decodeTimer.record(() -> CompressionUtil.decompress(column));
+    }
+
+    // 압축 결과가 원본보다 작지 않으면 null
+    public String compress(String content) {
+        String compressed = CompressionUtil.compress(content);
+        long savedBytes = content.getBytes(StandardCharsets.UTF_8).length
+                - compressed.getBytes(StandardCharsets.UTF_8).length;
+        if (savedBytes <= 0) {
+            return null;
+        }
+
+        savedBytesCounter.increment(savedBytes);
+        return compressed;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+}
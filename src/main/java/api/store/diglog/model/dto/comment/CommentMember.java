@@ -10,4 +10,5 @@ public class CommentMember {
 
     private String username;
     private String profileUrl;
+    private String profileThumbnailUrl;
 }
@@ -5,10 +5,12 @@ import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.ToString;
 
 @AllArgsConstructor
 @Builder
 @Getter
+@ToString
 public class FolderPostCountResponse {
 
 	private UUID folderId;
@@ -17,5 +19,7 @@ public class FolderPostCountResponse {
 	private int orderIndex;
 	private UUID parentFolderId;
 	private long postCount;
+	// 하위 폴더의 게시글을 포함한 개수
+	private long subtreePostCount;
 
 }
@@ -0,0 +1,15 @@
+package api.store.diglog.model.dto.member;
+
+import lombok.*;
+
+@Setter
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class MemberProfileAutocompleteRequest {
+
+    private String username;
+    @Builder.Default
+    private int size = 10;
+}
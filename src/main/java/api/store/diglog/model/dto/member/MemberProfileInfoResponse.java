@@ -10,4 +10,5 @@ public class MemberProfileInfoResponse {
 
     private String username;
     private String profileUrl;
+    private String profileThumbnailUrl;
 }
@@ -11,4 +11,5 @@ public class MemberProfileResponse {
     private String email;
     private String username;
     private String profileUrl;
+    private String profileThumbnailUrl;
 }
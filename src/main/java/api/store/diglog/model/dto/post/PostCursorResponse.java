@@ -0,0 +1,16 @@
+package api.store.diglog.model.dto.post;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostCursorResponse {
+
+    private List<PostSummaryResponse> content;
+    private String nextCursor;
+    private boolean hasNext;
+}
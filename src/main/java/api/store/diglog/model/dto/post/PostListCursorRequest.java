@@ -0,0 +1,15 @@
+package api.store.diglog.model.dto.post;
+
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostListCursorRequest {
+
+    private String cursor;
+    // 없으면 기본 개수로 조회
+    private Integer size;
+}
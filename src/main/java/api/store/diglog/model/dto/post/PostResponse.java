@@ -3,6 +3,8 @@ package api.store.diglog.model.dto.post;
 import api.store.diglog.model.dto.folder.FolderPostResponse;
 import api.store.diglog.model.dto.tag.TagResponse;
 import api.store.diglog.model.entity.Post;
+import api.store.diglog.model.entity.PostRender;
+import api.store.diglog.model.vo.post.PostHeadingVO;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -10,7 +12,7 @@ import java.util.List;
 import java.util.UUID;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 public class PostResponse {
@@ -22,6 +24,15 @@ public class PostResponse {
     private FolderPostResponse folder;
     private List<TagResponse> tags;
     private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    // 캐시되는 응답에는 포함하지 않고 조회 시점에 채움 (PostViewCountService.applyViewCount)
+    private long viewCount;
+    // 미리 렌더링된 본문, 아직 렌더링되지 않았으면 null (content의 Markdown 사용)
+    private String html;
+    private List<PostHeadingVO> toc;
+    private Integer wordCount;
+    private Integer readingMinutes;
+    private String excerpt;
 
     public PostResponse(Post post) {
         this.id = post.getId();
@@ -32,6 +43,7 @@ public class PostResponse {
                 .map(TagResponse::new)
                 .toList();
         this.createdAt = post.getCreatedAt();
+        this.updatedAt = post.getUpdatedAt();
 
         if (post.getFolder() != null) {
             this.folder = FolderPostResponse.builder()
@@ -40,4 +52,23 @@ public class PostResponse {
                     .build();
         }
     }
+
+    // 이전 본문의 렌더링 결과는 사용하지 않음
+    public PostResponse(Post post, PostRender postRender) {
+        this(post);
+
+        if (postRender != null && postRender.isRenderedFrom(post)) {
+            this.html = postRender.getHtml();
+            this.toc = postRender.getToc();
+            this.wordCount = postRender.getWordCount();
+            this.readingMinutes = postRender.getReadingMinutes();
+            this.excerpt = postRender.getExcerpt();
+        }
+    }
+
+    public PostResponse withViewCount(long viewCount) {
+        return toBuilder()
+                .viewCount(viewCount)
+                .build();
+    }
 }
@@ -0,0 +1,41 @@
+package api.store.diglog.model.dto.post;
+
+import api.store.diglog.model.dto.folder.FolderPostResponse;
+import api.store.diglog.model.dto.tag.TagResponse;
+import api.store.diglog.model.vo.post.PostSummaryVO;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostSummaryResponse {
+
+    private UUID id;
+    private String title;
+    private String excerpt;
+    private String username;
+    private FolderPostResponse folder;
+    private List<TagResponse> tags;
+    private LocalDateTime createdAt;
+
+    public PostSummaryResponse(PostSummaryVO postSummaryVO, List<TagResponse> tags) {
+        this.id = postSummaryVO.getId();
+        this.title = postSummaryVO.getTitle();
+        this.excerpt = postSummaryVO.getExcerpt();
+        this.username = postSummaryVO.getUsername();
+        this.tags = tags;
+        this.createdAt = postSummaryVO.getCreatedAt();
+
+        if (postSummaryVO.getFolderId() != null) {
+            this.folder = FolderPostResponse.builder()
+                    .id(postSummaryVO.getFolderId())
+                    .title(postSummaryVO.getFolderTitle())
+                    .build();
+        }
+    }
+}
@@ -40,6 +40,10 @@ public class Comment {
     @JoinColumn(name = "parent_id")
     private Comment parentComment;
 
+    // 삭제되지 않은 답글 수, 답글 작성/삭제 시 CommentRepository의 UPDATE 쿼리로 갱신
+    @Column(nullable = false, columnDefinition = "int default 0")
+    private int replyCount;
+
     @CreatedDate
     private LocalDateTime createdAt;
 
@@ -47,7 +51,7 @@ public class Comment {
     private LocalDateTime updatedAt;
 
     @Builder
-    public Comment(UUID id, Post post, Member member, String content, boolean isDeleted, Comment parentComment, Member taggedMember, LocalDateTime createdAt, LocalDateTime updatedAt) {
+    public Comment(UUID id, Post post, Member member, String content, boolean isDeleted, Comment parentComment, Member taggedMember, int replyCount, LocalDateTime createdAt, LocalDateTime updatedAt) {
         this.id = id;
         this.post = post;
         this.member = member;
@@ -55,6 +59,7 @@ public class Comment {
         this.isDeleted = isDeleted;
         this.parentComment = parentComment;
         this.taggedMember = taggedMember;
+        this.replyCount = replyCount;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
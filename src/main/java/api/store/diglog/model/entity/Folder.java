@@ -10,6 +10,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -21,7 +22,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "folder")
+@Table(name = "folder", indexes = @Index(name = "idx_folder_path", columnList = "path"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class Folder {
@@ -30,6 +31,7 @@ public class Folder {
 	private static final int MAX_ORDER_INDEX = 100;
 	private static final int INDEX_CORRECT_FACTOR = -1;
 	private static final int MAX_TITLE_LENGTH = 25;
+	private static final String PATH_DELIMITER = "/";
 
 	@Id
 	private UUID id;
@@ -55,6 +57,10 @@ public class Folder {
 	@JoinColumn(name = "parent_id")
 	private Folder parentFolder;
 
+	// 루트 폴더부터 자신까지의 id 경로 ("/{rootId}/.../{id}/"), 하위 폴더는 path 접두사 범위 검색으로 조회
+	@Column(length = 120)
+	private String path;
+
 	@Builder
 	private Folder(UUID id, Member member, String title, int depth, int orderIndex, Folder parentFolder) {
 
@@ -68,6 +74,17 @@ public class Folder {
 		this.depth = depth;
 		this.orderIndex = orderIndex;
 		this.parentFolder = parentFolder;
+		this.path = createPath(id, parentFolder);
+	}
+
+	private static String createPath(UUID id, Folder parentFolder) {
+		String parentPath = parentFolder == null ? PATH_DELIMITER : parentFolder.getPath();
+		return parentPath + id + PATH_DELIMITER;
+	}
+
+	// 부모 폴더의 path가 먼저 갱신되어 있어야 함
+	public void updatePath() {
+		this.path = createPath(id, parentFolder);
 	}
 
 	private void validateDepth(int depth) {
@@ -0,0 +1,48 @@
+package api.store.diglog.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 삭제할 S3 이미지, 이미지 row 삭제와 같은 트랜잭션에서 저장 (커밋된 경우에만 S3에서 삭제)
+@Entity
+@Table(indexes = @Index(name = "idx_image_delete_outbox_next_attempt_at", columnList = "next_attempt_at"))
+@EntityListeners(AuditingEntityListener.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ImageDeleteOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(nullable = false)
+    private String url;
+
+    @Column(nullable = false, columnDefinition = "int default 0")
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @CreatedDate
+    private LocalDateTime createdAt;
+
+    @Builder
+    public ImageDeleteOutbox(UUID id, String url, int attempts, LocalDateTime nextAttemptAt, LocalDateTime createdAt) {
+        this.id = id;
+        this.url = url;
+        this.attempts = attempts;
+        this.nextAttemptAt = nextAttemptAt == null ? LocalDateTime.now() : nextAttemptAt;
+        this.createdAt = createdAt;
+    }
+
+    public void retryAt(LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
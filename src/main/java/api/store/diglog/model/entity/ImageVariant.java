@@ -0,0 +1,44 @@
+package api.store.diglog.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 업로드된 원본 이미지(sourceUrl)의 리사이즈 버전, 에디터 이미지는 Image row가 없으므로 url로 연결
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_image_variant_source_url_width", columnNames = {"source_url", "width"}),
+        indexes = @Index(name = "idx_image_variant_url", columnList = "url"))
+@EntityListeners(AuditingEntityListener.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ImageVariant {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(nullable = false)
+    private String sourceUrl;
+
+    @Column(nullable = false)
+    private int width;
+
+    @Column(nullable = false)
+    private String url;
+
+    @CreatedDate
+    private LocalDateTime createdAt;
+
+    @Builder
+    public ImageVariant(UUID id, String sourceUrl, int width, String url, LocalDateTime createdAt) {
+        this.id = id;
+        this.sourceUrl = sourceUrl;
+        this.width = width;
+        this.url = url;
+        this.createdAt = createdAt;
+    }
+}
@@ -8,6 +8,7 @@ import java.util.UUID;
 import api.store.diglog.model.constant.Platform;
 import api.store.diglog.model.constant.Role;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -44,6 +45,7 @@ public class Member {
     @Column(nullable = false)
     private String password;
 
+    @BatchSize(size = 100)
     @ElementCollection(fetch = FetchType.EAGER)
     @CollectionTable(name = "member_roles", joinColumns = @JoinColumn(name = "member_id"))
     @Column(name = "role")
@@ -80,14 +82,14 @@ public class Member {
     public boolean equals(Object o) {
         if (this == o)
             return true;
-        if (o == null || getClass() != o.getClass())
+        // 지연 로딩 프록시(getReferenceById)와도 비교할 수 있도록 instanceof, getId() 사용
+        if (!(o instanceof Member member))
             return false;
-        Member member = (Member)o;
-        return Objects.equals(id, member.id);
+        return Objects.equals(getId(), member.getId());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id);
+        return Objects.hash(getId());
     }
 }
\ No newline at end of file
@@ -1,7 +1,9 @@
 package api.store.diglog.model.entity;
 
+import api.store.diglog.model.converter.PostContentConverter;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -11,6 +13,11 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_post_is_deleted_created_at_id", columnList = "is_deleted, created_at, id"),
+        @Index(name = "idx_post_member_id_is_deleted_updated_at", columnList = "member_id, is_deleted, updated_at"),
+        @Index(name = "idx_post_updated_at", columnList = "updated_at")
+})
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -27,6 +34,8 @@ public class Post {
     @JoinColumn(name = "folder_id")
     private Folder folder;
 
+    // 목록 조회 시 페이지 단위로 태그를 한 번에 불러오기 위한 배치 크기
+    @BatchSize(size = 100)
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
             name = "post_tag",
@@ -37,12 +46,17 @@ public class Post {
     @Column(nullable = false)
     private String title;
 
+    @Convert(converter = PostContentConverter.class)
     @Column(nullable = false, columnDefinition = "TEXT")
     private String content;
 
     @Column(nullable = false, columnDefinition = "boolean default false")
     private boolean isDeleted;
 
+    // PostViewCountService에서만 증가분을 반영 (게시글 수정 시 덮어쓰지 않음)
+    @Column(nullable = false, updatable = false, columnDefinition = "bigint default 0")
+    private long viewCount;
+
     @CreatedDate
     private LocalDateTime createdAt;
 
@@ -0,0 +1,54 @@
+package api.store.diglog.model.entity;
+
+import api.store.diglog.model.vo.post.PostHeadingVO;
+import api.store.diglog.model.vo.post.RenderedPostVO;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+// 게시글 본문(Markdown)을 미리 렌더링한 결과, sourceUpdatedAt이 게시글의 updatedAt과 다르면 이전 본문의 결과
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostRender {
+
+    @Id
+    private UUID postId;
+
+    @Column(nullable = false, columnDefinition = "MEDIUMTEXT")
+    private String html;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    private List<PostHeadingVO> toc;
+
+    @Column(nullable = false)
+    private int wordCount;
+
+    @Column(nullable = false)
+    private int readingMinutes;
+
+    @Column(nullable = false, length = 200)
+    private String excerpt;
+
+    private LocalDateTime sourceUpdatedAt;
+
+    @Builder
+    public PostRender(UUID postId, RenderedPostVO renderedPost, LocalDateTime sourceUpdatedAt) {
+        this.postId = postId;
+        this.html = renderedPost.getHtml();
+        this.toc = renderedPost.getToc();
+        this.wordCount = renderedPost.getWordCount();
+        this.readingMinutes = renderedPost.getReadingMinutes();
+        this.excerpt = renderedPost.getExcerpt();
+        this.sourceUpdatedAt = sourceUpdatedAt;
+    }
+
+    public boolean isRenderedFrom(Post post) {
+        return sourceUpdatedAt != null && sourceUpdatedAt.equals(post.getUpdatedAt());
+    }
+}
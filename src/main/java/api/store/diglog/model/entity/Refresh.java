@@ -1,48 +1,47 @@
 package api.store.diglog.model.entity;
 
 import java.time.LocalDateTime;
-import java.util.UUID;
 
 import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
-import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 
+// refresh 토큰 원문 대신 SHA-256 digest를 PK로 저장
 @Entity
+@Table(name = "refresh_token", indexes = {
+        @Index(name = "idx_refresh_token_email", columnList = "email"),
+        @Index(name = "idx_refresh_token_expires_at", columnList = "expires_at")
+})
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Refresh {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    private UUID id;
+    @Column(length = 64)
+    private String tokenHash;
 
     @Column(nullable = false)
     private String email;
 
-    @Column(nullable = false, unique = true)
-    private String jwt;
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
 
     @CreatedDate
     private LocalDateTime createdAt;
 
-    @LastModifiedDate
-    private LocalDateTime updatedAt;
-
     @Builder
-    public Refresh(UUID id, String email, String jwt, LocalDateTime createdAt, LocalDateTime updatedAt) {
-        this.id = id;
+    public Refresh(String tokenHash, String email, LocalDateTime expiresAt, LocalDateTime createdAt) {
+        this.tokenHash = tokenHash;
         this.email = email;
-        this.jwt = jwt;
+        this.expiresAt = expiresAt;
         this.createdAt = createdAt;
-        this.updatedAt = updatedAt;
     }
 }
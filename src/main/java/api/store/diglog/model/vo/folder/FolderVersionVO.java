@@ -0,0 +1,27 @@
+package api.store.diglog.model.vo.folder;
+
+import api.store.diglog.common.util.ETagUtil;
+import api.store.diglog.model.dto.folder.FolderPostCountResponse;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 조건부 GET(If-None-Match)에 사용하는 폴더 목록 버전
+@Getter
+@Builder
+public class FolderVersionVO {
+
+    private String eTag;
+
+    // 응답 필드를 명시적으로 나열 (toString을 사용하면 필드가 추가되거나 이름이 바뀔 때 모든 ETag가 바뀜)
+    public static FolderVersionVO from(List<FolderPostCountResponse> folders) {
+        return FolderVersionVO.builder()
+                .eTag(ETagUtil.of(folders.stream()
+                        .map(folder -> ETagUtil.of(folder.getFolderId(), folder.getTitle(), folder.getDepth(),
+                                folder.getOrderIndex(), folder.getParentFolderId(), folder.getPostCount(),
+                                folder.getSubtreePostCount()))
+                        .toArray()))
+                .build();
+    }
+}
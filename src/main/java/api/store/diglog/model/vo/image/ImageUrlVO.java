@@ -8,4 +8,6 @@ import lombok.Getter;
 public class ImageUrlVO {
 
     private String url;
+    // 썸네일이 아직 생성되지 않았거나 원본이 더 작은 경우 원본 url
+    private String thumbnailUrl;
 }
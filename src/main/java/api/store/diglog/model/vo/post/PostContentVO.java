@@ -0,0 +1,17 @@
+package api.store.diglog.model.vo.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 압축 migration용, content는 DB에 저장된 값 그대로 (converter 미적용), updatedAt은 동시 수정 확인용
+@Getter
+@AllArgsConstructor
+public class PostContentVO {
+
+    private UUID id;
+    private String content;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,42 @@
+package api.store.diglog.model.vo.post;
+
+import api.store.diglog.common.exception.CustomException;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import static api.store.diglog.common.exception.ErrorCode.POST_INVALID_CURSOR;
+
+// 커서 기반 목록 조회의 마지막 위치 (createdAt, id), 클라이언트에는 Base64 문자열로 전달
+@Getter
+@Builder
+public class PostCursorVO {
+
+    private static final String DELIMITER = "_";
+
+    private LocalDateTime createdAt;
+    private UUID id;
+
+    public String encode() {
+        String value = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PostCursorVO decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = value.split(DELIMITER, 2);
+
+            return PostCursorVO.builder()
+                    .createdAt(LocalDateTime.parse(values[0]))
+                    .id(UUID.fromString(values[1]))
+                    .build();
+        } catch (Exception e) {
+            throw new CustomException(POST_INVALID_CURSOR);
+        }
+    }
+}
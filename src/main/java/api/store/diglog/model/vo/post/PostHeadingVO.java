@@ -0,0 +1,16 @@
+package api.store.diglog.model.vo.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 목차 항목, id는 렌더링된 HTML의 heading id (앵커 링크)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostHeadingVO {
+
+    private int level;
+    private String text;
+    private String id;
+}
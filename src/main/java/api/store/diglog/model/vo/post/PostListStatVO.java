@@ -0,0 +1,14 @@
+package api.store.diglog.model.vo.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class PostListStatVO {
+
+    private LocalDateTime maxUpdatedAt;
+    private long count;
+}
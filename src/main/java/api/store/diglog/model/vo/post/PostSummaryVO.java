@@ -0,0 +1,34 @@
+package api.store.diglog.model.vo.post;
+
+import api.store.diglog.common.util.CompressionUtil;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 게시글 목록 조회용 projection (content 전체를 조회하지 않음)
+@Getter
+@Builder
+public class PostSummaryVO {
+
+    private static final int EXCERPT_LENGTH = 200;
+
+    private UUID id;
+    private String title;
+    private String excerpt;
+    private String username;
+    private UUID folderId;
+    private String folderTitle;
+    private LocalDateTime createdAt;
+
+    public PostSummaryVO(UUID id, String title, String excerpt, String username, UUID folderId, String folderTitle, LocalDateTime createdAt) {
+        this.id = id;
+        this.title = title;
+        this.excerpt = CompressionUtil.toExcerpt(excerpt, EXCERPT_LENGTH);
+        this.username = username;
+        this.folderId = folderId;
+        this.folderTitle = folderTitle;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,30 @@
+package api.store.diglog.model.vo.post;
+
+import api.store.diglog.common.util.ETagUtil;
+import api.store.diglog.model.dto.post.PostResponse;
+import lombok.Builder;
+import lombok.Getter;
+
+// 조건부 GET(If-None-Match)에 사용하는 응답 버전
+// 작성자 이름, 폴더, 렌더링 결과는 updatedAt을 바꾸지 않으므로 Last-Modified(If-Modified-Since)는 사용하지 않음
+@Getter
+@Builder
+public class PostVersionVO {
+
+    private String eTag;
+
+    // 게시글 수정, 작성자 이름, 폴더 변경, 렌더링 완료를 반영 (태그는 수정 시 updatedAt이 바뀜)
+    public static PostVersionVO from(PostResponse postResponse) {
+        Object folderId = null;
+        Object folderTitle = null;
+        if (postResponse.getFolder() != null) {
+            folderId = postResponse.getFolder().getId();
+            folderTitle = postResponse.getFolder().getTitle();
+        }
+
+        return PostVersionVO.builder()
+                .eTag(ETagUtil.of(postResponse.getId(), postResponse.getUpdatedAt(), postResponse.getUsername(),
+                        folderId, folderTitle, postResponse.getHtml() != null))
+                .build();
+    }
+}
@@ -0,0 +1,17 @@
+package api.store.diglog.model.vo.post;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class RenderedPostVO {
+
+    private String html;
+    private List<PostHeadingVO> toc;
+    private int wordCount;
+    private int readingMinutes;
+    private String excerpt;
+}
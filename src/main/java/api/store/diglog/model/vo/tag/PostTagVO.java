@@ -0,0 +1,17 @@
+package api.store.diglog.model.vo.tag;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class PostTagVO {
+
+    private UUID postId;
+    private UUID tagId;
+    private String name;
+}
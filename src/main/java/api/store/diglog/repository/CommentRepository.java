@@ -15,7 +15,29 @@ public interface CommentRepository extends JpaRepository<Comment, UUID> {
 
     Optional<Comment> findByIdAndIsDeletedFalse(UUID id);
 
-    int countByParentCommentIdAndIsDeletedFalse(UUID parentCommentId);
+    @Query("SELECT c.parentComment.id FROM Comment c WHERE c.id = :commentId")
+    Optional<UUID> findParentCommentIdById(@Param("commentId") UUID commentId);
+
+    @Modifying
+    @Query("UPDATE Comment c SET c.replyCount = c.replyCount + 1 WHERE c.id = :commentId")
+    int incrementReplyCount(@Param("commentId") UUID commentId);
+
+    @Modifying
+    @Query("UPDATE Comment c SET c.replyCount = c.replyCount - 1 WHERE c.id = :commentId AND c.replyCount > 0")
+    int decrementReplyCount(@Param("commentId") UUID commentId);
+
+    // 답글 수를 comment 테이블 기준으로 다시 계산
+    // MySQL은 UPDATE 대상 테이블을 SET 절 subquery에서 조회할 수 없으므로 (error 1093) 집계 결과를 derived table로 JOIN
+    @Modifying
+    @Query(value = """
+            UPDATE comment c
+            LEFT JOIN (
+            SELECT parent_id, COUNT(*) cnt FROM comment
+            WHERE is_deleted = false AND parent_id IS NOT NULL
+            GROUP BY parent_id) x ON x.parent_id = c.id
+            SET c.reply_count = COALESCE(x.cnt, 0)
+            """, nativeQuery = true)
+    int reconcileReplyCounts();
 
     // parentId의 depth를 재귀로 계산, maxDepth 이상인 경우 탐색을 종료하고 maxDepth를 리턴
     @Query(value = """
@@ -33,6 +55,6 @@ public interface CommentRepository extends JpaRepository<Comment, UUID> {
     Page<Comment> findByPostIdAndParentCommentIdAndIsDeletedFalse(UUID postId, UUID parentId, Pageable pageable);
 
     @Modifying
-    @Query(value = "UPDATE comment c SET c.is_deleted = TRUE WHERE c.id = :commentId AND c.member_id = :memberId", nativeQuery = true)
+    @Query(value = "UPDATE comment c SET c.is_deleted = TRUE WHERE c.id = :commentId AND c.member_id = :memberId AND c.is_deleted = FALSE", nativeQuery = true)
     int updateIsDeletedByCommentIdAndMemberId(@Param("commentId") UUID commentId, @Param("memberId") UUID memberId);
 }
@@ -0,0 +1,16 @@
+package api.store.diglog.repository;
+
+import api.store.diglog.model.dto.folder.FolderPostCountResponse;
+import api.store.diglog.model.entity.Folder;
+import api.store.diglog.model.entity.Member;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface FolderRepositoryCustom {
+
+    List<FolderPostCountResponse> findAllWithPostCountByMember(Member member);
+
+    List<Folder> findAllByMemberIdAndPathStartingWithAny(UUID memberId, Collection<String> pathPrefixes);
+}
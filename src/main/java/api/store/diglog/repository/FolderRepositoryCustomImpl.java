@@ -0,0 +1,84 @@
+package api.store.diglog.repository;
+
+import api.store.diglog.model.dto.folder.FolderPostCountResponse;
+import api.store.diglog.model.entity.Folder;
+import api.store.diglog.model.entity.Member;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public class FolderRepositoryCustomImpl implements FolderRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 폴더별 게시글 수만 DB에서 집계하고 하위 폴더 합계는 path 접두사로 메모리에서 계산
+    // (path LIKE CONCAT(f.path, '%') join은 인덱스를 사용하지 못함, 회원의 폴더 수는 depth 제한으로 적음)
+    @Override
+    public List<FolderPostCountResponse> findAllWithPostCountByMember(Member member) {
+        List<Object[]> rows = entityManager.createQuery("""
+                        SELECT f.id, f.title, f.depth, f.orderIndex, parent.id, f.path, COUNT(p.id)
+                        FROM Folder f
+                        LEFT JOIN f.parentFolder parent
+                        LEFT JOIN Post p ON p.folder.id = f.id
+                        WHERE f.member = :member
+                        GROUP BY f.id
+                        ORDER BY f.orderIndex
+                        """, Object[].class)
+                .setParameter("member", member)
+                .getResultList();
+
+        List<FolderPostCountResponse> responses = new ArrayList<>();
+        for (Object[] row : rows) {
+            String path = (String) row[5];
+            long subtreePostCount = 0;
+            for (Object[] sub : rows) {
+                String subPath = (String) sub[5];
+                if (sub == row || (path != null && subPath != null && subPath.startsWith(path))) {
+                    subtreePostCount += (long) sub[6];
+                }
+            }
+
+            responses.add(FolderPostCountResponse.builder()
+                    .folderId((UUID) row[0])
+                    .title((String) row[1])
+                    .depth((int) row[2])
+                    .orderIndex((int) row[3])
+                    .parentFolderId((UUID) row[4])
+                    .postCount((long) row[6])
+                    .subtreePostCount(subtreePostCount)
+                    .build());
+        }
+
+        return responses;
+    }
+
+    // 접두사마다 상수 LIKE 조건을 OR로 연결해 idx_folder_path 범위 검색 (path는 UUID와 '/'로만 구성되므로 escape 불필요)
+    @Override
+    public List<Folder> findAllByMemberIdAndPathStartingWithAny(UUID memberId, Collection<String> pathPrefixes) {
+        if (pathPrefixes.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> conditions = new ArrayList<>();
+        for (int i = 0; i < pathPrefixes.size(); i++) {
+            conditions.add("f.path LIKE :prefix" + i);
+        }
+
+        TypedQuery<Folder> query = entityManager.createQuery(
+                "SELECT f FROM Folder f WHERE f.member.id = :memberId AND (" + String.join(" OR ", conditions) + ")",
+                Folder.class);
+        query.setParameter("memberId", memberId);
+        int index = 0;
+        for (String pathPrefix : pathPrefixes) {
+            query.setParameter("prefix" + index++, pathPrefix + "%");
+        }
+
+        return query.getResultList();
+    }
+}
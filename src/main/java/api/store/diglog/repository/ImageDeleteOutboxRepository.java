@@ -0,0 +1,19 @@
+package api.store.diglog.repository;
+
+import api.store.diglog.model.entity.ImageDeleteOutbox;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ImageDeleteOutboxRepository extends JpaRepository<ImageDeleteOutbox, UUID> {
+
+    List<ImageDeleteOutbox> findByNextAttemptAtLessThanEqualOrderByNextAttemptAt(LocalDateTime now, Limit limit);
+
+    @Query("SELECT MIN(o.createdAt) FROM ImageDeleteOutbox o")
+    Optional<LocalDateTime> findOldestCreatedAt();
+}
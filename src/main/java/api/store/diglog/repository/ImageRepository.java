@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -15,6 +16,8 @@ public interface ImageRepository extends JpaRepository<Image, UUID> {
 
     List<Image> findByRefId(UUID refId);
 
+    List<Image> findByRefIdIn(Collection<UUID> refIds);
+
     @Modifying
     @Query("DELETE FROM Image i WHERE i.refId = :refId AND i.url IN :urls")
     void deleteAllByRefIdAndUrls(@Param("refId") UUID refId, @Param("urls") List<String> urls);
@@ -0,0 +1,29 @@
+package api.store.diglog.repository;
+
+import api.store.diglog.model.entity.ImageVariant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ImageVariantRepository extends JpaRepository<ImageVariant, UUID> {
+
+    Optional<ImageVariant> findBySourceUrlAndWidth(String sourceUrl, int width);
+
+    List<ImageVariant> findBySourceUrlInAndWidth(Collection<String> sourceUrls, int width);
+
+    List<ImageVariant> findBySourceUrlIn(Collection<String> sourceUrls);
+
+    // 원본 이미지 row가 남아있는 variant url
+    @Query("SELECT v.url FROM ImageVariant v WHERE v.url IN :urls AND EXISTS (SELECT i.id FROM Image i WHERE i.url = v.sourceUrl)")
+    List<String> findReferencedUrlsByUrlIn(@Param("urls") Collection<String> urls);
+
+    @Modifying
+    @Query("DELETE FROM ImageVariant v WHERE v.url IN :urls")
+    void deleteAllByUrlIn(@Param("urls") Collection<String> urls);
+}
@@ -3,11 +3,14 @@ package api.store.diglog.repository;
 import api.store.diglog.model.entity.Member;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -15,10 +18,17 @@ public interface MemberRepository extends JpaRepository<Member, UUID> {
 
     Optional<Member> findByEmail(String email);
 
+    @Query("SELECT m.id FROM Member m WHERE m.email = :email")
+    Optional<UUID> findIdByEmail(@Param("email") String email);
+
     Optional<Member> findByUsername(String username);
 
+    List<Member> findAllByIdIn(Collection<UUID> ids);
+
     Optional<Member> findByUsernameAndIsDeletedFalse(String username);
 
+    Slice<Member> findAllByIsDeletedFalse(Pageable pageable);
+
     Page<Member> findAllByUsernameContainingIgnoreCaseAndIsDeletedFalse(String username, Pageable pageable);
 
     @Modifying
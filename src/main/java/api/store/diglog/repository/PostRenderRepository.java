@@ -0,0 +1,27 @@
+package api.store.diglog.repository;
+
+import api.store.diglog.model.entity.PostRender;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface PostRenderRepository extends JpaRepository<PostRender, UUID> {
+
+    // 렌더링 결과가 없거나 이전 본문의 결과인 게시글 (id 순서로 lastId 이후)
+    @Query("""
+            SELECT p.id FROM Post p
+            WHERE p.isDeleted = false
+            AND p.id > :lastId
+            AND NOT EXISTS (
+                SELECT r.postId FROM PostRender r
+                WHERE r.postId = p.id
+                AND r.sourceUpdatedAt = p.updatedAt
+            )
+            ORDER BY p.id
+            """)
+    List<UUID> findUnrenderedPostIds(@Param("lastId") UUID lastId, Limit limit);
+}
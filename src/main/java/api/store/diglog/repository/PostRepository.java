@@ -1,44 +1,244 @@
 package api.store.diglog.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import api.store.diglog.model.entity.Folder;
 import api.store.diglog.model.entity.Member;
 import api.store.diglog.model.entity.Post;
+import api.store.diglog.model.vo.post.PostListStatVO;
+import api.store.diglog.model.vo.post.PostSummaryVO;
+import api.store.diglog.model.vo.tag.PostTagVO;
 
-public interface PostRepository extends JpaRepository<Post, UUID> {
+public interface PostRepository extends JpaRepository<Post, UUID>, PostRepositoryCustom {
 
+	// 목록 조회용 select 절 (content는 앞 200자만 조회, 압축된 content는 header 2자 이후의 평문 앞부분을 PostSummaryVO에서 추출)
+	String SUMMARY_SELECT = """
+		SELECT new api.store.diglog.model.vo.post.PostSummaryVO(
+		    p.id,
+		    p.title,
+		    SUBSTRING(p.content, 1, 202),
+		    m.username,
+		    f.id,
+		    f.title,
+		    p.createdAt
+		)
+		FROM Post p
+		JOIN p.member m
+		LEFT JOIN p.folder f
+		""";
+
+	@EntityGraph(attributePaths = {"member", "folder"})
 	Optional<Post> findByIdAndIsDeletedFalse(UUID id);
 
-	Page<Post> findAllByIsDeletedFalse(Pageable pageable);
+	// 목록 조회는 content 전체 대신 앞부분(excerpt)만 조회하고, tags는 findAllTagsByPostIdIn으로 한 번에 조회
+	@Query(value = SUMMARY_SELECT + """
+		WHERE p.isDeleted = false
+		""",
+		countQuery = "SELECT COUNT(p) FROM Post p WHERE p.isDeleted = false")
+	Page<PostSummaryVO> findSummariesByIsDeletedFalse(Pageable pageable);
+
+	// 커서 기반 목록 조회 (createdAt, id 내림차순), 첫 페이지
+	@Query(SUMMARY_SELECT + """
+		WHERE p.isDeleted = false
+		ORDER BY p.createdAt DESC, p.id DESC
+		""")
+	List<PostSummaryVO> findSummariesByIsDeletedFalse(Limit limit);
+
+	// 커서 기반 목록 조회, 커서(createdAt, id) 이후 페이지 (offset, count 없이 인덱스 탐색)
+	@Query(SUMMARY_SELECT + """
+		WHERE p.isDeleted = false
+		AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id))
+		ORDER BY p.createdAt DESC, p.id DESC
+		""")
+	List<PostSummaryVO> findSummariesByIsDeletedFalseAndCursor(@Param("createdAt") LocalDateTime createdAt,
+		@Param("id") UUID id, Limit limit);
+
+	@Query(value = SUMMARY_SELECT + """
+		WHERE p.isDeleted = false
+		AND LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%'))
+		""",
+		countQuery = """
+			SELECT COUNT(p) FROM Post p
+			WHERE p.isDeleted = false
+			AND LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%'))
+			""")
+	Page<PostSummaryVO> findSummariesByTitleContaining(@Param("keyword") String keyword, Pageable pageable);
+
+	@Query(value = SUMMARY_SELECT + """
+		WHERE p.isDeleted = false
+		AND EXISTS (SELECT 1 FROM Tag t JOIN t.posts tp WHERE tp = p AND LOWER(t.name) LIKE LOWER(CONCAT('%', :keyword, '%')))
+		""",
+		countQuery = """
+			SELECT COUNT(p) FROM Post p
+			WHERE p.isDeleted = false
+			AND EXISTS (SELECT 1 FROM Tag t JOIN t.posts tp WHERE tp = p AND LOWER(t.name) LIKE LOWER(CONCAT('%', :keyword, '%')))
+			""")
+	Page<PostSummaryVO> findSummariesByTagNameContaining(@Param("keyword") String keyword, Pageable pageable);
+
+	@Query(value = SUMMARY_SELECT + """
+		WHERE p.isDeleted = false
+		AND (LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%'))
+			OR EXISTS (SELECT 1 FROM Tag t JOIN t.posts tp WHERE tp = p AND LOWER(t.name) LIKE LOWER(CONCAT('%', :keyword, '%'))))
+		""",
+		countQuery = """
+			SELECT COUNT(p) FROM Post p
+			WHERE p.isDeleted = false
+			AND (LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%'))
+				OR EXISTS (SELECT 1 FROM Tag t JOIN t.posts tp WHERE tp = p AND LOWER(t.name) LIKE LOWER(CONCAT('%', :keyword, '%'))))
+			""")
+	Page<PostSummaryVO> findSummariesByTitleOrTagNameContaining(@Param("keyword") String keyword, Pageable pageable);
+
+	@Query(value = SUMMARY_SELECT + """
+		WHERE p.isDeleted = false
+		AND m.id = :memberId
+		""",
+		countQuery = "SELECT COUNT(p) FROM Post p WHERE p.isDeleted = false AND p.member.id = :memberId")
+	Page<PostSummaryVO> findSummariesByMemberId(@Param("memberId") UUID memberId, Pageable pageable);
 
-	Page<Post> findAllByTitleContainingIgnoreCaseAndIsDeletedFalse(String title, Pageable pageable);
+	// 회원 게시글 목록의 버전, (member_id, is_deleted, updated_at) 인덱스만으로 계산
+	@Query("""
+		SELECT new api.store.diglog.model.vo.post.PostListStatVO(MAX(p.updatedAt), COUNT(p))
+		FROM Post p
+		WHERE p.member.id = :memberId
+		AND p.isDeleted = false
+		""")
+	PostListStatVO findListStatByMemberId(@Param("memberId") UUID memberId);
 
-	Page<Post> findAllByTagsNameContainingIgnoreCaseAndIsDeletedFalse(String tagName, Pageable pageable);
+	// folderIds 폴더의 게시글, 하위 폴더 id는 FolderService.getSubtreeFolderIds로 미리 조회
+	@Query(value = SUMMARY_SELECT + """
+		WHERE p.isDeleted = false
+		AND m.id = :memberId
+		AND f.id IN :folderIds
+		""",
+		countQuery = """
+			SELECT COUNT(p) FROM Post p
+			WHERE p.isDeleted = false
+			AND p.member.id = :memberId
+			AND p.folder.id IN :folderIds
+			""")
+	Page<PostSummaryVO> findSummariesByMemberIdAndFolderIdIn(@Param("memberId") UUID memberId,
+		@Param("folderIds") Collection<UUID> folderIds, Pageable pageable);
 
-	Page<Post> findAllByTitleContainingIgnoreCaseOrTagsNameContainingIgnoreCaseAndIsDeletedFalse(String title,
-		String tagName, Pageable pageable);
+	// FULLTEXT(ngram) 검색, match_against는 MySqlFunctionContributor에서 등록
+	@Query(value = SUMMARY_SELECT + """
+		WHERE p.isDeleted = false
+		AND match_against(p.title, :keyword) > 0
+		ORDER BY match_against(p.title, :keyword) DESC, p.createdAt DESC
+		""",
+		countQuery = """
+			SELECT COUNT(p) FROM Post p
+			WHERE p.isDeleted = false
+			AND match_against(p.title, :keyword) > 0
+			""")
+	Page<PostSummaryVO> findSummariesByTitleFullText(@Param("keyword") String keyword, Pageable pageable);
 
-	Page<Post> findAllByMemberIdAndIsDeletedFalse(UUID memberId, Pageable pageable);
+	// 태그 검색은 게시글 태그 중 가장 관련도가 높은 태그의 점수로 정렬
+	@Query(value = SUMMARY_SELECT + """
+		WHERE p.isDeleted = false
+		AND EXISTS (SELECT 1 FROM Tag t JOIN t.posts tp WHERE tp = p AND match_against(t.name, :keyword) > 0)
+		ORDER BY (SELECT MAX(match_against(t.name, :keyword)) FROM Tag t JOIN t.posts tp WHERE tp = p) DESC,
+			p.createdAt DESC
+		""",
+		countQuery = """
+			SELECT COUNT(p) FROM Post p
+			WHERE p.isDeleted = false
+			AND EXISTS (SELECT 1 FROM Tag t JOIN t.posts tp WHERE tp = p AND match_against(t.name, :keyword) > 0)
+			""")
+	Page<PostSummaryVO> findSummariesByTagNameFullText(@Param("keyword") String keyword, Pageable pageable);
 
-	Page<Post> findAllByMemberIdAndFolderIdInAndIsDeletedFalse(UUID memberId, List<UUID> folderIds, Pageable pageable);
+	@Query(value = SUMMARY_SELECT + """
+		WHERE p.isDeleted = false
+		AND (match_against(p.title, :keyword) > 0
+			OR EXISTS (SELECT 1 FROM Tag t JOIN t.posts tp WHERE tp = p AND match_against(t.name, :keyword) > 0))
+		ORDER BY match_against(p.title, :keyword)
+			+ COALESCE((SELECT MAX(match_against(t.name, :keyword)) FROM Tag t JOIN t.posts tp WHERE tp = p), 0) DESC,
+			p.createdAt DESC
+		""",
+		countQuery = """
+			SELECT COUNT(p) FROM Post p
+			WHERE p.isDeleted = false
+			AND (match_against(p.title, :keyword) > 0
+				OR EXISTS (SELECT 1 FROM Tag t JOIN t.posts tp WHERE tp = p AND match_against(t.name, :keyword) > 0))
+			""")
+	Page<PostSummaryVO> findSummariesByTitleOrTagNameFullText(@Param("keyword") String keyword, Pageable pageable);
 
-	Page<Post> findAllByMemberUsernameAndTagsIdAndIsDeletedFalse(String username, UUID tagId, Pageable pageable);
+	@Query(SUMMARY_SELECT + """
+		WHERE p.isDeleted = false
+		AND p.id IN :ids
+		""")
+	List<PostSummaryVO> findSummariesByIdIn(@Param("ids") List<UUID> ids);
 
-	List<Post> findAllByIdInAndMemberId(List<UUID> ids, UUID memberId);
+	// tagId가 null인 경우 태그가 없는 게시글을 조회
+	@Query(value = SUMMARY_SELECT + """
+		WHERE p.isDeleted = false
+		AND m.username = :username
+		AND ((:tagId IS NULL AND NOT EXISTS (SELECT 1 FROM Tag t JOIN t.posts tp WHERE tp = p))
+			OR EXISTS (SELECT 1 FROM Tag t JOIN t.posts tp WHERE tp = p AND t.id = :tagId))
+		""",
+		countQuery = """
+			SELECT COUNT(p) FROM Post p
+			WHERE p.isDeleted = false
+			AND p.member.username = :username
+			AND ((:tagId IS NULL AND NOT EXISTS (SELECT 1 FROM Tag t JOIN t.posts tp WHERE tp = p))
+				OR EXISTS (SELECT 1 FROM Tag t JOIN t.posts tp WHERE tp = p AND t.id = :tagId))
+			""")
+	Page<PostSummaryVO> findSummariesByMemberUsernameAndTagId(@Param("username") String username,
+		@Param("tagId") UUID tagId, Pageable pageable);
+
+	@Query("""
+		SELECT new api.store.diglog.model.vo.tag.PostTagVO(p.id, t.id, t.name)
+		FROM Post p
+		JOIN p.tags t
+		WHERE p.id IN :postIds
+		""")
+	List<PostTagVO> findAllTagsByPostIdIn(@Param("postIds") List<UUID> postIds);
+
+	// 회원 본인의 삭제되지 않은 게시글만 변경, 변경된 row 수 반환 (bulk update는 auditing을 거치지 않으므로 updatedAt 직접 지정)
+	@Modifying
+	@Query("""
+		UPDATE Post p
+		SET p.folder = :folder, p.updatedAt = :updatedAt
+		WHERE p.id IN :ids AND p.member.id = :memberId AND p.isDeleted = false
+		""")
+	int updateFolderByIdInAndMemberId(
+		@Param("ids") Collection<UUID> ids,
+		@Param("memberId") UUID memberId,
+		@Param("folder") Folder folder,
+		@Param("updatedAt") LocalDateTime updatedAt);
 
 	@Modifying
-	@Query("UPDATE Post p SET p.isDeleted = true, p.folder = null WHERE p.id = :id AND p.member = :member")
-	int updatePostIsDeleted(@Param("id") UUID id, @Param("member") Member member);
+	@Query("""
+		UPDATE Post p SET p.isDeleted = true, p.folder = null, p.updatedAt = :updatedAt
+		WHERE p.id = :id AND p.member = :member
+		""")
+	int updatePostIsDeleted(@Param("id") UUID id, @Param("member") Member member,
+		@Param("updatedAt") LocalDateTime updatedAt);
 
 	@Query("SELECT p FROM Post p JOIN FETCH p.folder WHERE p.folder.id IN :folderIds")
 	List<Post> findAllByFolderIdIn(@Param("folderIds") List<UUID> folderIds);
+
+	@Query("SELECT p.id FROM Post p WHERE p.folder.id IN :folderIds")
+	List<UUID> findIdsByFolderIdIn(@Param("folderIds") List<UUID> folderIds);
+
+	long countByIsDeletedFalse();
+
+	@Query("SELECT p.viewCount FROM Post p WHERE p.id = :id")
+	Optional<Long> findViewCountById(@Param("id") UUID id);
+
+	// 검색 색인 동기화용, 삭제된 게시글 포함
+	@Query("SELECT p.id FROM Post p WHERE p.updatedAt >= :updatedAt")
+	List<UUID> findIdsByUpdatedAtGreaterThanEqual(@Param("updatedAt") LocalDateTime updatedAt);
 }
@@ -0,0 +1,17 @@
+package api.store.diglog.repository;
+
+import api.store.diglog.model.vo.post.PostContentVO;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public interface PostRepositoryCustom {
+
+    int increaseViewCounts(Map<UUID, Long> viewCounts);
+
+    List<PostContentVO> findUncompressedContents(UUID lastId, int minLength, int limit);
+
+    int updateContent(UUID id, LocalDateTime expectedUpdatedAt, String content);
+}
@@ -0,0 +1,83 @@
+package api.store.diglog.repository;
+
+import api.store.diglog.common.util.CompressionUtil;
+import api.store.diglog.model.vo.post.PostContentVO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.query.NativeQuery;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public class PostRepositoryCustomImpl implements PostRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 게시글별 조회수 증가분을 CASE 식 UPDATE 한 번으로 반영 (증가분은 서버에서 계산한 값이므로 SQL에 직접 포함)
+    @Override
+    public int increaseViewCounts(Map<UUID, Long> viewCounts) {
+        if (viewCounts.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder sql = new StringBuilder("UPDATE post SET view_count = view_count + CASE id");
+        viewCounts.values().forEach(count -> sql.append(" WHEN ? THEN ").append(count));
+        sql.append(" ELSE 0 END WHERE id IN (")
+                .append(String.join(", ", Collections.nCopies(viewCounts.size(), "?")))
+                .append(")");
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        int position = 1;
+        for (UUID postId : viewCounts.keySet()) {
+            query.setParameter(position++, postId);
+        }
+        for (UUID postId : viewCounts.keySet()) {
+            query.setParameter(position++, postId);
+        }
+
+        return query.executeUpdate();
+    }
+
+    // id 순서로 lastId 이후, minLength보다 길고 압축되지 않은 content (native query이므로 converter 미적용)
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<PostContentVO> findUncompressedContents(UUID lastId, int minLength, int limit) {
+        List<Object[]> rows = entityManager.createNativeQuery("""
+                        SELECT id, content, updated_at FROM post
+                        WHERE id > ?
+                        AND CHAR_LENGTH(content) > ?
+                        AND content NOT LIKE ?
+                        ORDER BY id
+                        LIMIT ?
+                        """)
+                .setParameter(1, lastId)
+                .setParameter(2, minLength)
+                .setParameter(3, CompressionUtil.COMPRESSED_PREFIX + "%")
+                .setParameter(4, limit)
+                .unwrap(NativeQuery.class)
+                .addScalar("id", UUID.class)
+                .addScalar("content", String.class)
+                .addScalar("updated_at", LocalDateTime.class)
+                .getResultList();
+
+        return rows.stream()
+                .map(row -> new PostContentVO((UUID) row[0], (String) row[1], (LocalDateTime) row[2]))
+                .toList();
+    }
+
+    // 조회 이후 수정된 게시글은 덮어쓰지 않음 (updated_at 유지)
+    // content 비교는 collation에 따라 대소문자/악센트만 다른 수정을 구분하지 못하므로 updated_at으로 확인
+    @Override
+    public int updateContent(UUID id, LocalDateTime expectedUpdatedAt, String content) {
+        return entityManager.createNativeQuery("UPDATE post SET content = ? WHERE id = ? AND updated_at = ?")
+                .setParameter(1, content)
+                .setParameter(2, id)
+                .setParameter(3, expectedUpdatedAt)
+                .executeUpdate();
+    }
+}
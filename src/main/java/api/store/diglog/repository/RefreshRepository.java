@@ -2,15 +2,21 @@ package api.store.diglog.repository;
 
 import api.store.diglog.model.entity.Refresh;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.util.UUID;
+import java.time.LocalDateTime;
 
-public interface RefreshRepository extends JpaRepository<Refresh, UUID> {
+public interface RefreshRepository extends JpaRepository<Refresh, String> {
 
-    void deleteAllByEmail(String email);
+    @Modifying
+    @Query("DELETE FROM Refresh r WHERE r.email = :email")
+    void deleteAllByEmail(@Param("email") String email);
 
-    @Query("SELECT COUNT(r) from Refresh r WHERE r.jwt = :refreshToken")
-    int countByRefreshToken(@Param("refreshToken") String refreshToken);
+    @Modifying
+    @Query("DELETE FROM Refresh r WHERE r.expiresAt < :now")
+    int deleteAllByExpiresAtBefore(@Param("now") LocalDateTime now);
+
+    boolean existsByTokenHashAndExpiresAtAfter(String tokenHash, LocalDateTime now);
 }
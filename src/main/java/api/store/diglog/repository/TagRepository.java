@@ -1,14 +1,21 @@
 package api.store.diglog.repository;
 
 import api.store.diglog.model.entity.Tag;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
-public interface TagRepository extends JpaRepository<Tag, UUID> {
+public interface TagRepository extends JpaRepository<Tag, UUID>, TagRepositoryCustom {
 
     List<Tag> findAllByPostsMemberUsernameOrderByName(String username);
 
     List<Tag> findByNameIn(List<String> names);
+
+    // 공유 잠금 조회, 트랜잭션 시작 이후 다른 트랜잭션이 커밋한 태그도 조회
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    List<Tag> findLockedByNameIn(Collection<String> names);
 }
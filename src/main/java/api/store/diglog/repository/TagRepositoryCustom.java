@@ -0,0 +1,8 @@
+package api.store.diglog.repository;
+
+import java.util.Collection;
+
+public interface TagRepositoryCustom {
+
+    int insertIgnoreAll(Collection<String> names);
+}
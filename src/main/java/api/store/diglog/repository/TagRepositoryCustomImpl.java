@@ -0,0 +1,39 @@
+package api.store.diglog.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.UUID;
+
+public class TagRepositoryCustomImpl implements TagRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 여러 태그를 multi-row INSERT 한 번으로 저장, 이미 존재하는 이름은 (동시에 저장된 경우 포함) unique 제약으로 무시
+    @Override
+    public int insertIgnoreAll(Collection<String> names) {
+        if (names.isEmpty()) {
+            return 0;
+        }
+
+        String values = String.join(", ", Collections.nCopies(names.size(), "(?, ?, ?, ?)"));
+        Query query = entityManager.createNativeQuery(
+                "INSERT IGNORE INTO tag (id, name, created_at, updated_at) VALUES " + values);
+
+        LocalDateTime now = LocalDateTime.now();
+        int position = 1;
+        for (String name : names) {
+            query.setParameter(position++, UUID.randomUUID());
+            query.setParameter(position++, name);
+            query.setParameter(position++, now);
+            query.setParameter(position++, now);
+        }
+
+        return query.executeUpdate();
+    }
+}
@@ -0,0 +1,24 @@
+package api.store.diglog.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// reply_count 컬럼 도입 이후 한 번 실행 (comment.reply-count.reconcile=true)
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "comment.reply-count.reconcile", havingValue = "true")
+@RequiredArgsConstructor
+public class CommentReplyCountReconciler implements ApplicationRunner {
+
+    private final CommentService commentService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int updated = commentService.reconcileReplyCounts();
+        log.info("Reconciled reply counts of {} comments", updated);
+    }
+}
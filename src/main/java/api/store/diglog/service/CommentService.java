@@ -2,6 +2,7 @@ package api.store.diglog.service;
 
 import api.store.diglog.common.exception.CustomException;
 import api.store.diglog.model.dto.comment.CommentListRequest;
+import api.store.diglog.model.dto.comment.CommentMember;
 import api.store.diglog.model.dto.comment.CommentRequest;
 import api.store.diglog.model.dto.comment.CommentResponse;
 import api.store.diglog.model.dto.comment.CommentUpdateRequest;
@@ -17,6 +18,10 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import static api.store.diglog.common.exception.ErrorCode.*;
@@ -46,6 +51,10 @@ public class CommentService {
                 .taggedMember(taggedMember)
                 .build();
         commentRepository.save(comment);
+
+        if (parentComment != null) {
+            commentRepository.incrementReplyCount(parentComment.getId());
+        }
     }
 
     private Comment getParentComment(UUID parentCommentId) {
@@ -72,25 +81,52 @@ public class CommentService {
         Pageable pageable = PageRequest.of(commentListRequest.getPage(), commentListRequest.getSize(), Sort.by("createdAt"));
         Page<Comment> comments = commentRepository.findByPostIdAndParentCommentIdAndIsDeletedFalse(commentListRequest.getPostId(), commentListRequest.getParentCommentId(), pageable);
 
-        return comments.map(this::getCommentResponse);
+        // 작성자, 태그된 회원, 프로필 이미지를 댓글마다 조회하지 않고 페이지 단위로 한 번에 조회
+        Map<UUID, CommentMember> commentMembers = memberService.getCommentMembers(getMemberIds(comments.getContent()));
+
+        return comments.map(comment -> getCommentResponse(comment, commentMembers));
+    }
+
+    private Set<UUID> getMemberIds(List<Comment> comments) {
+        Set<UUID> memberIds = new HashSet<>();
+        for (Comment comment : comments) {
+            memberIds.add(comment.getMember().getId());
+            if (comment.getTaggedMember() != null) {
+                memberIds.add(comment.getTaggedMember().getId());
+            }
+        }
+
+        return memberIds;
     }
 
-    private CommentResponse getCommentResponse(Comment comment) {
+    private CommentResponse getCommentResponse(Comment comment, Map<UUID, CommentMember> commentMembers) {
+        CommentMember member = commentMembers.get(comment.getMember().getId());
+        if (member == null) {
+            throw new CustomException(MEMBER_ID_NOT_FOUND);
+        }
+
         return CommentResponse.builder()
                 .id(comment.getId())
                 .content(comment.getContent())
-                .member(memberService.getCommentMember(comment.getMember().getId()))
+                .member(member)
                 .isDeleted(false)
-                .taggedUsername(getTaggedUsername(comment))
+                .taggedUsername(getTaggedUsername(comment, commentMembers))
                 .createdAt(comment.getCreatedAt())
-                .replyCount(commentRepository.countByParentCommentIdAndIsDeletedFalse(comment.getId()))
+                .replyCount(comment.getReplyCount())
                 .build();
     }
 
-    private String getTaggedUsername(Comment comment) {
-        return comment.getTaggedMember() != null
-                ? memberService.findMemberById(comment.getTaggedMember().getId()).getUsername()
-                : null;
+    private String getTaggedUsername(Comment comment, Map<UUID, CommentMember> commentMembers) {
+        if (comment.getTaggedMember() == null) {
+            return null;
+        }
+
+        CommentMember taggedMember = commentMembers.get(comment.getTaggedMember().getId());
+        if (taggedMember == null) {
+            throw new CustomException(MEMBER_ID_NOT_FOUND);
+        }
+
+        return taggedMember.getUsername();
     }
 
     @Transactional
@@ -119,5 +155,13 @@ public class CommentService {
         if (result <= 0) {
             throw new CustomException(COMMENT_IS_DELETED_NO_CHANGE);
         }
+
+        commentRepository.findParentCommentIdById(commentId)
+                .ifPresent(commentRepository::decrementReplyCount);
+    }
+
+    @Transactional
+    public int reconcileReplyCounts() {
+        return commentRepository.reconcileReplyCounts();
     }
 }
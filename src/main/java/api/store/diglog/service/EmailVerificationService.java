@@ -1,5 +1,6 @@
 package api.store.diglog.service;
 
+import api.store.diglog.common.event.MemberChangedEvent;
 import api.store.diglog.common.exception.CustomException;
 import api.store.diglog.model.constant.Platform;
 import api.store.diglog.model.constant.Role;
@@ -13,6 +14,7 @@ import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -38,6 +40,7 @@ public class EmailVerificationService {
     private final EmailVerificationRepository emailVerificationRepository;
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void sendMail(String email) {
@@ -131,6 +134,7 @@ public class EmailVerificationService {
                 .build();
 
         memberRepository.save(member);
+        eventPublisher.publishEvent(new MemberChangedEvent(member.getId(), member.getUsername()));
     }
 
     private String generateUsernameByEmail(String email) {
@@ -0,0 +1,27 @@
+package api.store.diglog.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// path 컬럼이 비어 있는 폴더를 시작 시 채움, 이미 채워져 있으면 조회 한 번으로 끝남 (folder.path.migrate=false로 비활성화)
+// 하위 폴더 조회가 path에 의존하므로 웹 서버가 요청을 받기 전(singleton 생성 직후)에 실행
+// ApplicationRunner, ContextRefreshedEvent는 웹 서버 시작 이후에 실행됨
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "folder.path.migrate", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class FolderPathMigrator implements SmartInitializingSingleton {
+
+    private final FolderService folderService;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        int updated = folderService.migratePaths();
+        if (updated > 0) {
+            log.info("Migrated paths of {} folders", updated);
+        }
+    }
+}
@@ -5,15 +5,19 @@ import static api.store.diglog.common.exception.ErrorCode.*;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import api.store.diglog.common.config.CacheConfig;
 import api.store.diglog.common.exception.CustomException;
 import api.store.diglog.model.dto.folder.FolderCreateRequest;
 import api.store.diglog.model.dto.folder.FolderDeleteRequest;
@@ -37,11 +41,18 @@ public class FolderService {
 	private final FolderRepository folderRepository;
 	private final MemberService memberService;
 	private final PostRepository postRepository;
+	private final CacheManager cacheManager;
 
+	// 회원별로 캐시, 폴더 구조나 폴더의 게시글이 바뀌면 커밋 이후 무효화
 	public List<FolderPostCountResponse> getFoldersWithPostCount(String username) {
 
 		Member member = memberService.findActiveMemberByUsername(username);
-		return folderRepository.findAllWithPostCountByMember(member);
+		Cache cache = cacheManager.getCache(CacheConfig.FOLDER_POST_COUNT);
+		return cache.get(member.getId(), () -> folderRepository.findAllWithPostCountByMember(member));
+	}
+
+	public void evictFoldersWithPostCount(UUID memberId) {
+		cacheManager.getCache(CacheConfig.FOLDER_POST_COUNT).evict(memberId);
 	}
 
 	@Transactional
@@ -68,6 +79,8 @@ public class FolderService {
 			});
 
 		List<Folder> savedFolders = folderRepository.saveAll(allFolders.values());
+		evictFoldersWithPostCount(member.getId());
+		evictPostsInFolders(folderCreateRequests);
 		return savedFolders.stream()
 			.map(folder -> FolderResponse.builder()
 				.folder(folder)
@@ -75,6 +88,20 @@ public class FolderService {
 			.toList();
 	}
 
+	// 게시글 응답에 폴더 제목이 포함되므로 기존 폴더에 속한 게시글의 캐시 무효화
+	private void evictPostsInFolders(List<FolderCreateRequest> folderCreateRequests) {
+		List<UUID> folderIds = folderCreateRequests.stream()
+			.map(FolderCreateRequest::getId)
+			.filter(Objects::nonNull)
+			.toList();
+		if (folderIds.isEmpty()) {
+			return;
+		}
+
+		Cache cache = cacheManager.getCache(CacheConfig.POST);
+		postRepository.findIdsByFolderIdIn(folderIds).forEach(cache::evict);
+	}
+
 	private void validateDuplicationParentFolderAndTitle(List<FolderCreateRequest> folderCreateRequests) {
 
 		Set<String> uniqueFolders = new HashSet<>();
@@ -158,6 +185,14 @@ public class FolderService {
 			.build();
 	}
 
+	// path 컬럼 도입 이전에 생성된 폴더의 path 채우기, 부모 폴더부터 depth 순서로 갱신
+	@Transactional
+	public int migratePaths() {
+		List<Folder> folders = folderRepository.findAllByPathIsNullOrderByDepth();
+		folders.forEach(Folder::updatePath);
+		return folders.size();
+	}
+
 	public Folder getFolderByIdAndMemberId(UUID folderId, UUID memberId) {
 		if (folderId == null) {
 			return null;
@@ -167,8 +202,23 @@ public class FolderService {
 			.orElseThrow(() -> new CustomException(FOLDER_OWNER_MISMATCH));
 	}
 
-	public List<Folder> getFoldersByIdList(List<UUID> folderIds) {
-		return folderRepository.findAllByIdIn(folderIds);
+	// folderIds 폴더와 모든 하위 폴더의 id, 다른 회원의 폴더 id는 무시
+	public List<UUID> getSubtreeFolderIds(UUID memberId, List<UUID> folderIds) {
+		List<Folder> folders = folderRepository.findAllByIdIn(folderIds);
+
+		return findAllInSubtrees(memberId, folders).stream()
+			.map(Folder::getId)
+			.toList();
+	}
+
+	// path를 먼저 조회한 뒤 상수 접두사로 검색 (path LIKE CONCAT(...)은 인덱스를 사용하지 못함), 자기 자신 포함
+	private List<Folder> findAllInSubtrees(UUID memberId, List<Folder> folders) {
+		Set<String> paths = folders.stream()
+			.map(Folder::getPath)
+			.filter(Objects::nonNull)
+			.collect(Collectors.toSet());
+
+		return folderRepository.findAllByMemberIdAndPathStartingWithAny(memberId, paths);
 	}
 
 	@Transactional
@@ -179,11 +229,11 @@ public class FolderService {
 			.map(FolderDeleteRequest::getFolderId)
 			.toList();
 
-		validateChildFolders(folderIds);
-		validateContainsPosts(folderIds);
-
 		Member currentMember = memberService.getCurrentMember();
 		List<Folder> folders = folderRepository.findAllByIdIn(folderIds);
+
+		validateChildFolders(currentMember, folders, folderIds);
+		validateContainsPosts(folderIds);
 		validateFolderMember(currentMember, folders);
 
 		int max = calculateMaxDepthFromFolders(folders);
@@ -192,11 +242,12 @@ public class FolderService {
 		for (int depth = max; depth >= min; depth--) {
 			deleteAllByDepth(folders, depth);
 		}
+		evictFoldersWithPostCount(currentMember.getId());
 
 	}
 
-	private void validateChildFolders(List<UUID> folderIds) {
-		List<Folder> childFolders = folderRepository.findAllByParentFolderIdIn(folderIds);
+	private void validateChildFolders(Member currentMember, List<Folder> folders, List<UUID> folderIds) {
+		List<Folder> childFolders = findAllInSubtrees(currentMember.getId(), folders);
 
 		childFolders.stream()
 			.filter(childFolder -> !folderIds.contains(childFolder.getId()))
@@ -1,19 +1,37 @@
 package api.store.diglog.service;
 
+import api.store.diglog.common.config.CacheConfig;
 import api.store.diglog.common.util.S3Util;
 import api.store.diglog.model.dto.image.ImageRequest;
 import api.store.diglog.model.dto.image.ImageUrlResponse;
 import api.store.diglog.model.entity.Image;
+import api.store.diglog.model.entity.ImageDeleteOutbox;
+import api.store.diglog.model.entity.ImageVariant;
 import api.store.diglog.model.vo.image.ImagePostVO;
 import api.store.diglog.model.vo.image.ImageSaveVO;
 import api.store.diglog.model.vo.image.ImageUrlVO;
+import api.store.diglog.repository.ImageDeleteOutboxRepository;
 import api.store.diglog.repository.ImageRepository;
+import api.store.diglog.repository.ImageVariantRepository;
+import api.store.diglog.service.image.ImageVariantGenerator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -21,9 +39,20 @@ import java.util.UUID;
 public class ImageService {
 
     private final ImageRepository imageRepository;
+    private final ImageVariantRepository imageVariantRepository;
+    private final ImageVariantGenerator imageVariantGenerator;
     private final S3Util s3Util;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ImageDeleteOutboxRepository imageDeleteOutboxRepository;
 
-    @Transactional
+    // image.variant.widths 중 하나여야 함
+    @Value("${image.variant.thumbnail-width:160}")
+    private int thumbnailWidth;
+
+    // S3 업로드 중에는 DB 커넥션을 점유하지 않도록 트랜잭션 밖에서 실행
+    // 게시글 이미지는 원본 url을 그대로 사용하므로 리사이즈 이미지를 생성하지 않음
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ImageUrlResponse uploadImage(ImageRequest imageRequest) {
         String url = s3Util.uploadImage(imageRequest.getFile());
 
@@ -32,19 +61,34 @@ public class ImageService {
                 .build();
     }
 
-    @Transactional
+    // S3 업로드 -> DB 저장, 기존 이미지 삭제 outbox 기록 (트랜잭션) -> 리사이즈 이미지 생성
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @CacheEvict(cacheNames = CacheConfig.PROFILE_URL, key = "#imageSaveVO.refId")
     public ImageUrlResponse uploadAndSaveImage(ImageSaveVO imageSaveVO) {
         String url = s3Util.uploadImage(imageSaveVO.getFile());
 
-        List<String> deletedUrls = deleteImageByRefId(imageSaveVO.getRefId());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<String> deletedUrls = deleteImageByRefId(imageSaveVO.getRefId());
 
-        Image image = Image.builder()
-                .refId(imageSaveVO.getRefId())
-                .url(url)
-                .build();
-        imageRepository.save(image);
-
-        s3Util.deleteImages(deletedUrls);
+                Image image = Image.builder()
+                        .refId(imageSaveVO.getRefId())
+                        .url(url)
+                        .build();
+                imageRepository.save(image);
+
+                enqueueDeletion(deletedUrls);
+            });
+        } catch (RuntimeException e) {
+            // 저장되지 않은 업로드 이미지 정리, 정리 실패가 원래 예외를 가리지 않도록 suppressed로 추가
+            try {
+                enqueueDeletion(List.of(url));
+            } catch (RuntimeException cleanupException) {
+                e.addSuppressed(cleanupException);
+            }
+            throw e;
+        }
+        imageVariantGenerator.submit(url, imageSaveVO.getRefId());
 
         return ImageUrlResponse.builder()
                 .url(url)
@@ -81,8 +125,8 @@ public class ImageService {
         List<String> deleteImageUrls = postImageUrls.stream()
                 .filter(url -> !imagePostVO.getUrls().contains(url))
                 .toList();
-        s3Util.deleteImages(deleteImageUrls);
         imageRepository.deleteAllByRefIdAndUrls(refId, deleteImageUrls);
+        enqueueDeletion(deleteImageUrls);
 
         List<String> notExistUrls = imagePostVO.getUrls().stream()
                 .filter(url -> !postImageUrls.contains(url))
@@ -96,6 +140,28 @@ public class ImageService {
         imageRepository.saveAll(images);
     }
 
+    // S3 삭제는 ImageDeleteOutboxWorker가 커밋된 outbox row만 처리 (원본과 함께 리사이즈 이미지도 삭제)
+    private void enqueueDeletion(List<String> urls) {
+        if (urls.isEmpty()) {
+            return;
+        }
+
+        List<String> deleteUrls = new ArrayList<>(urls);
+        List<ImageVariant> variants = imageVariantRepository.findBySourceUrlIn(urls);
+        if (!variants.isEmpty()) {
+            imageVariantRepository.deleteAllInBatch(variants);
+            variants.forEach(variant -> deleteUrls.add(variant.getUrl()));
+        }
+
+        List<ImageDeleteOutbox> outboxes = deleteUrls.stream()
+                .map(url -> ImageDeleteOutbox.builder()
+                        .url(url)
+                        .build())
+                .toList();
+        imageDeleteOutboxRepository.saveAll(outboxes);
+    }
+
+    @Cacheable(cacheNames = CacheConfig.PROFILE_URL, key = "#refId")
     public ImageUrlVO getUrlByRefId(UUID refId) {
         List<Image> images = imageRepository.findByRefId(refId);
 
@@ -103,6 +169,54 @@ public class ImageService {
             return ImageUrlVO.builder().build();
         }
 
-        return ImageUrlVO.builder().url(images.getFirst().getUrl()).build();
+        String url = images.getFirst().getUrl();
+        String thumbnailUrl = imageVariantRepository.findBySourceUrlAndWidth(url, thumbnailWidth)
+                .map(ImageVariant::getUrl)
+                .orElse(url);
+
+        return ImageUrlVO.builder()
+                .url(url)
+                .thumbnailUrl(thumbnailUrl)
+                .build();
+    }
+
+    // refId별 첫 번째 이미지 url, 캐시에 없는 refId만 IN 조회 후 캐시에 저장 (이미지가 없는 refId는 결과에 포함되지 않음)
+    public Map<UUID, ImageUrlVO> getUrlsByRefIds(Collection<UUID> refIds) {
+        Cache cache = cacheManager.getCache(CacheConfig.PROFILE_URL);
+        Map<UUID, ImageUrlVO> urls = new HashMap<>();
+        List<UUID> missedRefIds = new ArrayList<>();
+
+        for (UUID refId : refIds) {
+            ImageUrlVO cached = cache.get(refId, ImageUrlVO.class);
+            if (cached == null) {
+                missedRefIds.add(refId);
+            } else if (cached.getUrl() != null) {
+                urls.put(refId, cached);
+            }
+        }
+
+        if (missedRefIds.isEmpty()) {
+            return urls;
+        }
+
+        Map<UUID, String> loadedUrls = imageRepository.findByRefIdIn(missedRefIds).stream()
+                .collect(Collectors.toMap(Image::getRefId, Image::getUrl, (first, second) -> first));
+        Map<String, String> thumbnailUrls = loadedUrls.isEmpty()
+                ? Map.of()
+                : imageVariantRepository.findBySourceUrlInAndWidth(loadedUrls.values(), thumbnailWidth).stream()
+                .collect(Collectors.toMap(ImageVariant::getSourceUrl, ImageVariant::getUrl));
+        for (UUID refId : missedRefIds) {
+            String url = loadedUrls.get(refId);
+            ImageUrlVO imageUrlVO = ImageUrlVO.builder()
+                    .url(url)
+                    .thumbnailUrl(url == null ? null : thumbnailUrls.getOrDefault(url, url))
+                    .build();
+            cache.put(refId, imageUrlVO);
+            if (url != null) {
+                urls.put(refId, imageUrlVO);
+            }
+        }
+
+        return urls;
     }
 }
@@ -1,6 +1,9 @@
 package api.store.diglog.service;
 
+import api.store.diglog.common.auth.CurrentMemberIdResolver;
 import api.store.diglog.common.auth.JWTUtil;
+import api.store.diglog.common.config.CacheConfig;
+import api.store.diglog.common.event.MemberChangedEvent;
 import api.store.diglog.common.exception.CustomException;
 import api.store.diglog.common.util.SecurityUtil;
 import api.store.diglog.model.constant.Role;
@@ -12,19 +15,29 @@ import api.store.diglog.model.dto.login.LogoutRequest;
 import api.store.diglog.model.dto.member.*;
 import api.store.diglog.model.entity.Member;
 import api.store.diglog.model.vo.image.ImageSaveVO;
+import api.store.diglog.model.vo.image.ImageUrlVO;
 import api.store.diglog.model.vo.login.LoginTokenVO;
 import api.store.diglog.model.vo.login.LogoutTokenVO;
 import api.store.diglog.repository.MemberRepository;
+import api.store.diglog.service.search.MemberUsernameIndex;
 import jakarta.servlet.http.Cookie;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -40,12 +53,26 @@ public class MemberService {
     private final ImageService imageService;
     private final PasswordEncoder passwordEncoder;
     private final JWTUtil jwtUtil;
+    private final CurrentMemberIdResolver currentMemberIdResolver;
+    private final MemberUsernameIndex memberUsernameIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
-    // 현재 api 요청을 보낸 Member
+    private static final int AUTOCOMPLETE_MAX_SIZE = 20;
+
+    // 현재 api 요청을 보낸 Member, JWTFilter에서 조회한 회원 id의 참조를 현재 트랜잭션에서 반환 (필드를 사용할 때 조회)
     public Member getCurrentMember() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null
+                && requestAttributes.getAttribute(CurrentMemberIdResolver.CURRENT_MEMBER_ID_ATTRIBUTE,
+                RequestAttributes.SCOPE_REQUEST) instanceof UUID memberId) {
+            return memberRepository.getReferenceById(memberId);
+        }
+
         String email = SecurityUtil.getAuthenticationMemberInfo().getEmail();
-        return memberRepository.findByEmail(email)
+        UUID memberId = currentMemberIdResolver.resolve(email)
                 .orElseThrow(() -> new CustomException(MEMBER_EMAIL_NOT_FOUND));
+
+        return memberRepository.getReferenceById(memberId);
     }
 
     @Transactional
@@ -87,19 +114,26 @@ public class MemberService {
                 .build();
     }
 
+    // 게시글 응답에 작성자 이름이 포함되므로 게시글 캐시 전체 무효화 (이름 변경은 드묾)
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.POST, allEntries = true)
     public void updateUsername(MemberUsernameRequest memberUsernameRequest) {
         String email = SecurityUtil.getAuthenticationMemberInfo().getEmail();
+        UUID memberId = getCurrentMember().getId();
         memberRepository.updateUsername(memberUsernameRequest.getUsername(), email);
+        eventPublisher.publishEvent(new MemberChangedEvent(memberId, memberUsernameRequest.getUsername()));
     }
 
     public MemberProfileResponse getProfile() {
         Member member = getCurrentMember();
 
+        ImageUrlVO imageUrlVO = imageService.getUrlByRefId(member.getId());
+
         return MemberProfileResponse.builder()
                 .email(member.getEmail())
                 .username(member.getUsername())
-                .profileUrl(imageService.getUrlByRefId(member.getId()).getUrl())
+                .profileUrl(imageUrlVO.getUrl())
+                .profileThumbnailUrl(imageUrlVO.getThumbnailUrl())
                 .build();
     }
 
@@ -107,13 +141,16 @@ public class MemberService {
         Member member = memberRepository.findByUsername(username)
                 .orElseThrow(() -> new CustomException(MEMBER_USERNAME_NOT_FOUND));
 
+        ImageUrlVO imageUrlVO = imageService.getUrlByRefId(member.getId());
+
         return MemberProfileInfoResponse.builder()
                 .username(member.getUsername())
-                .profileUrl(imageService.getUrlByRefId(member.getId()).getUrl())
+                .profileUrl(imageUrlVO.getUrl())
+                .profileThumbnailUrl(imageUrlVO.getThumbnailUrl())
                 .build();
     }
 
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ImageUrlResponse updateProfileImage(ImageRequest imageRequest) {
         UUID refId = getCurrentMember().getId();
         ImageSaveVO imageSaveVO = ImageSaveVO.builder()
@@ -124,14 +161,25 @@ public class MemberService {
         return imageService.uploadAndSaveImage(imageSaveVO);
     }
 
-    public CommentMember getCommentMember(UUID memberId) {
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new CustomException(MEMBER_ID_NOT_FOUND));
+    // 댓글 목록의 작성자/태그된 회원을 IN 조회 한 번으로 가져오고, 프로필 이미지도 한 번에 조회
+    public Map<UUID, CommentMember> getCommentMembers(Collection<UUID> memberIds) {
+        if (memberIds.isEmpty()) {
+            return Map.of();
+        }
 
-        return CommentMember.builder()
-                .username(member.getUsername())
-                .profileUrl(imageService.getUrlByRefId(member.getId()).getUrl())
-                .build();
+        List<Member> members = memberRepository.findAllByIdIn(memberIds);
+        Map<UUID, ImageUrlVO> profileUrls = imageService.getUrlsByRefIds(memberIds);
+        ImageUrlVO emptyUrl = ImageUrlVO.builder().build();
+
+        return members.stream()
+                .collect(Collectors.toMap(Member::getId, member -> {
+                    ImageUrlVO imageUrlVO = profileUrls.getOrDefault(member.getId(), emptyUrl);
+                    return CommentMember.builder()
+                            .username(member.getUsername())
+                            .profileUrl(imageUrlVO.getUrl())
+                            .profileThumbnailUrl(imageUrlVO.getThumbnailUrl())
+                            .build();
+                }));
     }
 
     public Member findActiveMemberByUsername(String username) {
@@ -152,11 +200,36 @@ public class MemberService {
 
         return memberRepository.findAllByUsernameContainingIgnoreCaseAndIsDeletedFalse(username, pageable)
                 .map(member -> {
-                    String profileUrl = imageService.getUrlByRefId(member.getId()).getUrl();
+                    ImageUrlVO imageUrlVO = imageService.getUrlByRefId(member.getId());
                     return MemberProfileInfoResponse.builder()
                             .username(member.getUsername())
-                            .profileUrl(profileUrl)
+                            .profileUrl(imageUrlVO.getUrl())
+                            .profileThumbnailUrl(imageUrlVO.getThumbnailUrl())
                             .build();
                 });
     }
+
+    // 색인에서 prefix로 찾고, 프로필 이미지는 한 번에 조회 (댓글 @mention 자동완성)
+    public List<MemberProfileInfoResponse> autocompleteProfileByUsername(MemberProfileAutocompleteRequest memberProfileAutocompleteRequest) {
+        int size = Math.min(memberProfileAutocompleteRequest.getSize(), AUTOCOMPLETE_MAX_SIZE);
+        List<MemberUsernameIndex.Entry> entries = memberUsernameIndex.search(memberProfileAutocompleteRequest.getUsername(), size);
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+
+        List<UUID> memberIds = entries.stream().map(MemberUsernameIndex.Entry::id).toList();
+        Map<UUID, ImageUrlVO> profileUrls = imageService.getUrlsByRefIds(memberIds);
+        ImageUrlVO emptyUrl = ImageUrlVO.builder().build();
+
+        return entries.stream()
+                .map(entry -> {
+                    ImageUrlVO imageUrlVO = profileUrls.getOrDefault(entry.id(), emptyUrl);
+                    return MemberProfileInfoResponse.builder()
+                            .username(entry.username())
+                            .profileUrl(imageUrlVO.getUrl())
+                            .profileThumbnailUrl(imageUrlVO.getThumbnailUrl())
+                            .build();
+                })
+                .toList();
+    }
 }
@@ -0,0 +1,81 @@
+package api.store.diglog.service;
+
+import api.store.diglog.model.converter.PostContentConverter;
+import api.store.diglog.model.vo.post.PostContentVO;
+import api.store.diglog.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+// 압축 도입 이전에 저장된 긴 게시글 본문을 주기적으로 batch 단위로 압축 (post.content.compression.enabled, migrate 모두 true)
+// 한 번에 batch 하나만 처리해 DB 부하를 나눔, 끝까지 처리하면 중지
+@Slf4j
+@Component
+@ConditionalOnProperty(name = {"post.content.compression.enabled", "post.content.compression.migrate"}, havingValue = "true")
+public class PostContentCompressionMigrator {
+
+    // DB의 UUID는 byte 순서로 비교하므로 0으로 채운 값이 가장 작음
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+
+    private final PostRepository postRepository;
+    private final PostContentConverter postContentConverter;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private UUID lastId = MIN_ID;
+    private boolean completed;
+    private int migrated;
+
+    public PostContentCompressionMigrator(PostRepository postRepository,
+                                          PostContentConverter postContentConverter,
+                                          TransactionTemplate transactionTemplate,
+                                          @Value("${post.content.compression.migrate-batch-size:100}") int batchSize) {
+        this.postRepository = postRepository;
+        this.postContentConverter = postContentConverter;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${post.content.compression.migrate-interval:1s}",
+            initialDelayString = "${post.content.compression.migrate-interval:1s}")
+    public synchronized void migrate() {
+        if (completed) {
+            return;
+        }
+        // 압축이 꺼져 있으면 새로 저장되는 본문과 맞지 않으므로 기존 본문도 압축하지 않음
+        if (!postContentConverter.isEnabled()) {
+            completed = true;
+            log.warn("Skipped content compression migration, post.content.compression.enabled is false");
+            return;
+        }
+
+        List<PostContentVO> contents = postRepository.findUncompressedContents(
+                lastId, postContentConverter.getThreshold(), batchSize);
+        migrated += transactionTemplate.execute(status -> compress(contents));
+
+        if (contents.size() < batchSize) {
+            completed = true;
+            log.info("Compressed contents of {} posts", migrated);
+        } else {
+            lastId = contents.getLast().getId();
+        }
+    }
+
+    private int compress(List<PostContentVO> contents) {
+        int updated = 0;
+        for (PostContentVO content : contents) {
+            String compressed = postContentConverter.compress(content.getContent());
+            if (compressed != null) {
+                updated += postRepository.updateContent(content.getId(), content.getUpdatedAt(), compressed);
+            }
+        }
+
+        return updated;
+    }
+}
@@ -1,26 +1,52 @@
 package api.store.diglog.service;
 
+import api.store.diglog.common.config.CacheConfig;
+import api.store.diglog.common.event.PostChangedEvent;
 import api.store.diglog.common.exception.CustomException;
+import api.store.diglog.common.util.ETagUtil;
 import api.store.diglog.model.constant.SearchOption;
+import api.store.diglog.model.dto.folder.FolderPostCountResponse;
 import api.store.diglog.model.dto.post.*;
+import api.store.diglog.model.dto.tag.TagResponse;
 import api.store.diglog.model.entity.Folder;
 import api.store.diglog.model.entity.Member;
 import api.store.diglog.model.entity.Post;
 import api.store.diglog.model.entity.Tag;
+import api.store.diglog.model.vo.folder.FolderVersionVO;
 import api.store.diglog.model.vo.image.ImagePostVO;
+import api.store.diglog.model.vo.post.PostCursorVO;
+import api.store.diglog.model.vo.post.PostListStatVO;
+import api.store.diglog.model.vo.post.PostSummaryVO;
+import api.store.diglog.model.vo.post.PostVersionVO;
+import api.store.diglog.model.vo.tag.PostTagVO;
 import api.store.diglog.model.vo.tag.TagPostVO;
+import api.store.diglog.repository.PostRenderRepository;
 import api.store.diglog.repository.PostRepository;
+import api.store.diglog.service.search.PostSearchEngine;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static api.store.diglog.common.exception.ErrorCode.*;
 
@@ -29,11 +55,18 @@ import static api.store.diglog.common.exception.ErrorCode.*;
 @Transactional(readOnly = true)
 public class PostService {
 
+    private static final int DEFAULT_CURSOR_SIZE = 10;
+    private static final int MAX_CURSOR_SIZE = 100;
+
     private final PostRepository postRepository;
+    private final PostRenderRepository postRenderRepository;
     private final MemberService memberService;
     private final ImageService imageService;
     private final TagService tagService;
     private final FolderService folderService;
+    private final PostSearchEngine postSearchEngine;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
 
     @Transactional
     public void save(PostRequest postRequest) {
@@ -55,9 +88,15 @@ public class PostService {
                 .urls(postRequest.getUrls())
                 .build();
         imageService.savePostImage(imagePostVO);
+
+        if (folder != null) {
+            folderService.evictFoldersWithPostCount(member.getId());
+        }
+        eventPublisher.publishEvent(new PostChangedEvent(savedPost.getId()));
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.POST, key = "#postUpdateRequest.id")
     public void update(PostUpdateRequest postUpdateRequest) {
         Member member = memberService.getCurrentMember();
 
@@ -70,6 +109,7 @@ public class PostService {
         }
 
         Folder folder = folderService.getFolderByIdAndMemberId(postUpdateRequest.getFolderId(), member.getId());
+        boolean isFolderChanged = !Objects.equals(getFolderId(post.getFolder()), getFolderId(folder));
 
         Post updatePost = postUpdateRequest.toPost(post, folder, tags);
         postRepository.save(updatePost);
@@ -79,6 +119,15 @@ public class PostService {
                 .urls(postUpdateRequest.getUrls())
                 .build();
         imageService.saveUpdatedPostImage(imagePostVO);
+
+        if (isFolderChanged) {
+            folderService.evictFoldersWithPostCount(member.getId());
+        }
+        eventPublisher.publishEvent(new PostChangedEvent(post.getId()));
+    }
+
+    private UUID getFolderId(Folder folder) {
+        return folder == null ? null : folder.getId();
     }
 
     private List<Tag> saveNewTags(List<String> tagNames) {
@@ -90,53 +139,122 @@ public class PostService {
 
     @Transactional
     public void updateFolder(PostFolderUpdateRequest postFolderUpdateRequest) {
+        if (postFolderUpdateRequest.getPostIds() == null || postFolderUpdateRequest.getPostIds().isEmpty()) {
+            throw new CustomException(POST_EMPTY_IDS);
+        }
+
         Member member = memberService.getCurrentMember();
         Folder folder = folderService.getFolderByIdAndMemberId(postFolderUpdateRequest.getFolderId(), member.getId());
 
-        List<Post> posts = postRepository.findAllByIdInAndMemberId(postFolderUpdateRequest.getPostIds(), member.getId());
-        posts.forEach(post -> {
-            if (!post.getMember().equals(member)) {
-                throw new CustomException(POST_NO_PERMISSION);
-            }
-        });
+        // 게시글을 조회하지 않고 한 번의 UPDATE로 변경, 본인 게시글이 아닌 id가 있으면 롤백
+        Set<UUID> postIds = new HashSet<>(postFolderUpdateRequest.getPostIds());
+        int updatedRows = postRepository.updateFolderByIdInAndMemberId(postIds, member.getId(), folder, LocalDateTime.now());
+        if (updatedRows != postIds.size()) {
+            throw new CustomException(POST_NO_PERMISSION);
+        }
 
-        posts.forEach(post -> post.updateFolder(folder));
-        postRepository.saveAll(posts);
+        Cache cache = cacheManager.getCache(CacheConfig.POST);
+        postIds.forEach(cache::evict);
+        folderService.evictFoldersWithPostCount(member.getId());
     }
 
+    // 조립된 응답을 캐시, 캐시 미스 시 같은 게시글에 대한 동시 요청은 한 번만 조회 (sync)
+    @Cacheable(cacheNames = CacheConfig.POST, key = "#id", sync = true)
     public PostResponse getPost(UUID id) {
         Post post = postRepository.findByIdAndIsDeletedFalse(id)
                 .orElseThrow(() -> new CustomException(POST_NOT_FOUND));
 
-        return new PostResponse(post);
+        return new PostResponse(post, postRenderRepository.findById(id).orElse(null));
     }
 
-    public Page<PostResponse> getPosts(PostListSearchRequest postListSearchRequest) {
+    public Page<PostSummaryResponse> getPosts(PostListSearchRequest postListSearchRequest) {
         Pageable pageable = getPageable(postListSearchRequest);
 
         try {
-            return postRepository.findAllByIsDeletedFalse(pageable).map(PostResponse::new);
+            return toSummaryResponses(postRepository.findSummariesByIsDeletedFalse(pageable));
         } catch (Exception e) {
             throw new CustomException(POST_INVALID_SORT);
         }
     }
 
-    public Page<PostResponse> searchPosts(PostListSearchRequest postListSearchRequest) {
+    public Page<PostSummaryResponse> searchPosts(PostListSearchRequest postListSearchRequest) {
         Pageable pageable = getPageable(postListSearchRequest);
         SearchOption option = postListSearchRequest.getOption();
+        String keyword = postListSearchRequest.getKeyword();
+
+        return toSummaryResponses(postSearchEngine.search(keyword, option, pageable));
+    }
+
+    public PostCursorResponse getPostsByCursor(PostListCursorRequest postListCursorRequest) {
+        int size = getCursorSize(postListCursorRequest.getSize());
+        String cursor = postListCursorRequest.getCursor();
+
+        // 다음 페이지 존재 여부 확인을 위해 size + 1개 조회
+        Limit limit = Limit.of(size + 1);
+        List<PostSummaryVO> postSummaries;
+        if (cursor == null || cursor.isBlank()) {
+            postSummaries = postRepository.findSummariesByIsDeletedFalse(limit);
+        } else {
+            PostCursorVO postCursorVO = PostCursorVO.decode(cursor);
+            postSummaries = postRepository.findSummariesByIsDeletedFalseAndCursor(
+                    postCursorVO.getCreatedAt(), postCursorVO.getId(), limit);
+        }
+
+        boolean hasNext = postSummaries.size() > size;
+        String nextCursor = null;
+        if (hasNext) {
+            postSummaries = postSummaries.subList(0, size);
+            PostSummaryVO last = postSummaries.getLast();
+            nextCursor = PostCursorVO.builder()
+                    .createdAt(last.getCreatedAt())
+                    .id(last.getId())
+                    .build()
+                    .encode();
+        }
+
+        return PostCursorResponse.builder()
+                .content(toSummaryResponses(postSummaries))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private int getCursorSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_CURSOR_SIZE;
+        }
+        if (size < 1 || size > MAX_CURSOR_SIZE) {
+            throw new CustomException(POST_INVALID_SIZE, String.format(POST_INVALID_SIZE.getMessage(), MAX_CURSOR_SIZE));
+        }
+
+        return size;
+    }
+
+    private Page<PostSummaryResponse> toSummaryResponses(Page<PostSummaryVO> postSummaries) {
+        List<PostSummaryResponse> postSummaryResponses = toSummaryResponses(postSummaries.getContent());
+
+        return new PageImpl<>(postSummaryResponses, postSummaries.getPageable(), postSummaries.getTotalElements());
+    }
 
-        String title = postListSearchRequest.getKeyword();
-        String tagName = postListSearchRequest.getKeyword();
+    // 게시글 목록의 태그를 한 번의 쿼리로 조회하여 응답 생성
+    private List<PostSummaryResponse> toSummaryResponses(List<PostSummaryVO> postSummaries) {
+        if (postSummaries.isEmpty()) {
+            return List.of();
+        }
 
-        return switch (option) {
-            case ALL ->
-                    postRepository.findAllByTitleContainingIgnoreCaseOrTagsNameContainingIgnoreCaseAndIsDeletedFalse(title, tagName, pageable)
-                            .map(PostResponse::new);
-            case TITLE -> postRepository.findAllByTitleContainingIgnoreCaseAndIsDeletedFalse(title, pageable)
-                    .map(PostResponse::new);
-            case TAG -> postRepository.findAllByTagsNameContainingIgnoreCaseAndIsDeletedFalse(tagName, pageable)
-                    .map(PostResponse::new);
-        };
+        List<UUID> postIds = postSummaries.stream().map(PostSummaryVO::getId).toList();
+        Map<UUID, List<TagResponse>> tagsByPostId = postRepository.findAllTagsByPostIdIn(postIds).stream()
+                .collect(Collectors.groupingBy(PostTagVO::getPostId, Collectors.mapping(
+                        postTag -> TagResponse.builder()
+                                .id(postTag.getTagId())
+                                .name(postTag.getName())
+                                .build(),
+                        Collectors.toList())));
+
+        return postSummaries.stream()
+                .map(postSummary -> new PostSummaryResponse(postSummary,
+                        tagsByPostId.getOrDefault(postSummary.getId(), List.of())))
+                .toList();
     }
 
     private Pageable getPageable(PostListSearchRequest postListSearchRequest) {
@@ -157,41 +275,57 @@ public class PostService {
         return pageable;
     }
 
-    public Page<PostResponse> getMemberPosts(PostListMemberRequest postListMemberRequest) {
+    // 게시글 추가/수정/삭제/폴더 이동, 작성자 이름, 폴더 제목 변경을 반영 (게시글 본문은 조회하지 않음)
+    public PostVersionVO getMemberPostsVersion(String username) {
+        Member member = memberService.findActiveMemberByUsername(username);
+        PostListStatVO postListStat = postRepository.findListStatByMemberId(member.getId());
+        List<FolderPostCountResponse> folders = folderService.getFoldersWithPostCount(username);
+
+        return PostVersionVO.builder()
+                .eTag(ETagUtil.of(member.getUsername(), postListStat.getMaxUpdatedAt(), postListStat.getCount(),
+                        FolderVersionVO.from(folders).getETag()))
+                .build();
+    }
+
+    public Page<PostSummaryResponse> getMemberPosts(PostListMemberRequest postListMemberRequest) {
         Pageable pageable = PageRequest.of(postListMemberRequest.getPage(), postListMemberRequest.getSize(),
                 Sort.by("createdAt", "id").descending());
         Member member = memberService.findActiveMemberByUsername(postListMemberRequest.getUsername());
 
         if (postListMemberRequest.getFolderIds() == null || postListMemberRequest.getFolderIds().isEmpty()) {
-            return postRepository.findAllByMemberIdAndIsDeletedFalse(member.getId(), pageable)
-                    .map(PostResponse::new);
+            return toSummaryResponses(postRepository.findSummariesByMemberId(member.getId(), pageable));
         }
 
-        List<UUID> folderIds = folderService.getFoldersByIdList(postListMemberRequest.getFolderIds())
-                .stream().map(Folder::getId)
-                .toList();
-        return postRepository.findAllByMemberIdAndFolderIdInAndIsDeletedFalse(member.getId(), folderIds, pageable)
-                .map(PostResponse::new);
+        List<UUID> folderIds = folderService.getSubtreeFolderIds(member.getId(), postListMemberRequest.getFolderIds());
+        if (folderIds.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        return toSummaryResponses(postRepository.findSummariesByMemberIdAndFolderIdIn(
+                member.getId(), folderIds, pageable));
     }
 
-    public Page<PostResponse> getMemberTagPosts(PostListMemberTagRequest postListMemberTagRequest) {
+    public Page<PostSummaryResponse> getMemberTagPosts(PostListMemberTagRequest postListMemberTagRequest) {
         Pageable pageable = PageRequest.of(postListMemberTagRequest.getPage(), postListMemberTagRequest.getSize(),
                 Sort.by("createdAt", "id").descending());
         String username = postListMemberTagRequest.getUsername();
         UUID tagId = postListMemberTagRequest.getTagId();
 
-        return postRepository.findAllByMemberUsernameAndTagsIdAndIsDeletedFalse(username, tagId, pageable)
-                .map(PostResponse::new);
+        return toSummaryResponses(postRepository.findSummariesByMemberUsernameAndTagId(username, tagId, pageable));
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.POST, key = "#id")
     public void delete(UUID id) {
         Member member = memberService.getCurrentMember();
 
-        int deletedRows = postRepository.updatePostIsDeleted(id, member);
+        int deletedRows = postRepository.updatePostIsDeleted(id, member, LocalDateTime.now());
 
         if (deletedRows == 0) {
             throw new CustomException(POST_DELETE_FAILED);
         }
+
+        folderService.evictFoldersWithPostCount(member.getId());
+        eventPublisher.publishEvent(new PostChangedEvent(id));
     }
 }
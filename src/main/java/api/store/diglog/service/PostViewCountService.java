@@ -0,0 +1,109 @@
+package api.store.diglog.service;
+
+import api.store.diglog.common.config.CacheConfig;
+import api.store.diglog.model.dto.post.PostResponse;
+import api.store.diglog.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 조회수를 메모리에 모았다가 주기적으로 UPDATE 한 번에 반영 (조회마다 UPDATE하지 않음), 종료 시 남은 조회수 반영
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostViewCountService implements DisposableBean {
+
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheManager cacheManager;
+    // 반영 대기 중인 게시글별 조회수, 같은 게시글을 동시에 조회해도 LongAdder의 셀로 분산되어 경합하지 않음
+    private final ConcurrentHashMap<UUID, LongAdder> pendingCounts = new ConcurrentHashMap<>();
+    // 이전 주기에 제거한 카운터, 제거 직전에 참조를 얻은 스레드의 증가분을 한 주기 뒤에 반영
+    private Map<UUID, LongAdder> retiredCounts = new HashMap<>();
+
+    public void increase(UUID postId) {
+        LongAdder count = pendingCounts.get(postId);
+        if (count == null) {
+            count = pendingCounts.computeIfAbsent(postId, key -> new LongAdder());
+        }
+        count.increment();
+    }
+
+    // DB에 반영된 조회수 (게시글별 캐시) + 반영 대기 중인 조회수
+    public PostResponse applyViewCount(PostResponse postResponse) {
+        UUID postId = postResponse.getId();
+        Cache cache = cacheManager.getCache(CacheConfig.POST_VIEW_COUNT);
+        Long viewCount = cache.get(postId, () -> postRepository.findViewCountById(postId).orElse(0L));
+
+        LongAdder count = pendingCounts.get(postId);
+        return postResponse.withViewCount(count == null ? viewCount : viewCount + count.sum());
+    }
+
+    @Override
+    public void destroy() {
+        flush();
+    }
+
+    @Scheduled(fixedDelayString = "${post.view-count.flush-interval:10s}",
+            initialDelayString = "${post.view-count.flush-interval:10s}")
+    public synchronized void flush() {
+        Map<UUID, Long> viewCounts = new HashMap<>();
+        retiredCounts.forEach((postId, count) -> addViewCount(viewCounts, postId, count.sumThenReset()));
+        retiredCounts = new HashMap<>();
+
+        pendingCounts.forEach((postId, count) -> {
+            long delta = count.sumThenReset();
+            if (delta > 0) {
+                addViewCount(viewCounts, postId, delta);
+            } else if (pendingCounts.remove(postId, count)) {
+                // 한 주기 동안 조회되지 않은 게시글은 제거
+                retiredCounts.put(postId, count);
+            }
+        });
+
+        List<UUID> postIds = new ArrayList<>(viewCounts.keySet());
+        for (int from = 0; from < postIds.size(); from += FLUSH_BATCH_SIZE) {
+            Map<UUID, Long> batch = new HashMap<>();
+            postIds.subList(from, Math.min(from + FLUSH_BATCH_SIZE, postIds.size()))
+                    .forEach(postId -> batch.put(postId, viewCounts.get(postId)));
+            flush(batch);
+        }
+    }
+
+    private void addViewCount(Map<UUID, Long> viewCounts, UUID postId, long delta) {
+        if (delta > 0) {
+            viewCounts.merge(postId, delta, Long::sum);
+        }
+    }
+
+    private void flush(Map<UUID, Long> viewCounts) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> postRepository.increaseViewCounts(viewCounts));
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush view counts of {} posts", viewCounts.size(), e);
+            // 다음 주기에 다시 반영
+            viewCounts.forEach((postId, delta) ->
+                    pendingCounts.computeIfAbsent(postId, key -> new LongAdder()).add(delta));
+            return;
+        }
+
+        // 반영된 조회수만 다시 조회하도록 조회수 캐시만 무효화 (게시글 응답 캐시는 유지)
+        Cache cache = cacheManager.getCache(CacheConfig.POST_VIEW_COUNT);
+        viewCounts.keySet().forEach(cache::evict);
+    }
+}
@@ -4,6 +4,7 @@ import java.util.stream.Collectors;
 
 import api.store.diglog.common.exception.CustomException;
 import api.store.diglog.common.exception.ErrorCode;
+import api.store.diglog.common.util.HashUtil;
 import api.store.diglog.model.constant.Role;
 import api.store.diglog.model.dto.member.MemberInfoResponse;
 import api.store.diglog.model.vo.login.RenewRefreshTokenVO;
@@ -13,9 +14,8 @@ import org.springframework.stereotype.Service;
 
 import api.store.diglog.common.auth.JWTUtil;
 import api.store.diglog.model.entity.Member;
-import api.store.diglog.model.entity.Refresh;
 import api.store.diglog.repository.MemberRepository;
-import api.store.diglog.repository.RefreshRepository;
+import api.store.diglog.service.refresh.RefreshTokenStore;
 import jakarta.servlet.http.Cookie;
 import lombok.RequiredArgsConstructor;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,20 +25,13 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class RefreshService {
 
-    private final RefreshRepository refreshRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final MemberRepository memberRepository;
     private final JWTUtil jwtUtil;
 
     @Transactional
     public void save(String email, String refreshToken) {
-        refreshRepository.deleteAllByEmail(email);
-
-        Refresh refresh = Refresh.builder()
-                .email(email)
-                .jwt(refreshToken)
-                .build();
-
-        refreshRepository.save(refresh);
+        refreshTokenStore.save(email, HashUtil.sha256(refreshToken), jwtUtil.getExpiration(refreshToken));
     }
 
     @Transactional
@@ -69,11 +62,11 @@ public class RefreshService {
 
     @Transactional
     public void delete(String email) {
-        refreshRepository.deleteAllByEmail(email);
+        refreshTokenStore.deleteAllByEmail(email);
     }
 
     public boolean isExists(String refreshToken) {
-        return refreshRepository.countByRefreshToken(refreshToken) > 0;
+        return refreshTokenStore.exists(HashUtil.sha256(refreshToken));
     }
 
     @Transactional
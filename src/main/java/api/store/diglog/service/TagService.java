@@ -1,15 +1,21 @@
 package api.store.diglog.service;
 
+import api.store.diglog.common.config.CacheConfig;
 import api.store.diglog.model.dto.tag.TagResponse;
 import api.store.diglog.model.entity.Tag;
 import api.store.diglog.model.vo.tag.TagPostVO;
 import api.store.diglog.repository.TagRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -17,31 +23,38 @@ import java.util.List;
 public class TagService {
 
     private final TagRepository tagRepository;
+    private final CacheManager cacheManager;
 
     public List<TagResponse> getMemberTags(String username) {
         return tagRepository.findAllByPostsMemberUsernameOrderByName(username)
                 .stream().map(TagResponse::new).toList();
     }
 
+    // 캐시에 id가 있는 태그는 조회 없이 참조, 나머지는 INSERT IGNORE + 조회 (태그 수와 관계없이 최대 2번의 쿼리)
     @Transactional
     public List<Tag> saveAll(TagPostVO tagPostVO) {
-        List<Tag> existTags = tagRepository.findByNameIn(tagPostVO.getTagNames());
-        List<String> existTagNames = existTags.stream().map(Tag::getName).toList();
-        List<String> notExistTagNames = tagPostVO.getTagNames().stream()
-                .filter(tagName -> !existTagNames.contains(tagName))
-                .toList();
-
-        List<Tag> tags = notExistTagNames.stream()
-                .map(tagName -> Tag.builder()
-                        .name(tagName)
-                        .build())
-                .toList();
-
-        List<Tag> savedTags = tagRepository.saveAll(tags);
-
-        List<Tag> resultTags = new ArrayList<>();
-        resultTags.addAll(existTags);
-        resultTags.addAll(savedTags);
-        return resultTags;
+        Set<String> tagNames = new LinkedHashSet<>(tagPostVO.getTagNames());
+        Cache cache = cacheManager.getCache(CacheConfig.TAG_ID);
+
+        List<Tag> tags = new ArrayList<>();
+        Set<String> uncachedTagNames = new LinkedHashSet<>();
+        for (String tagName : tagNames) {
+            UUID tagId = cache.get(tagName, UUID.class);
+            if (tagId == null) {
+                uncachedTagNames.add(tagName);
+            } else {
+                tags.add(tagRepository.getReferenceById(tagId));
+            }
+        }
+
+        if (!uncachedTagNames.isEmpty()) {
+            tagRepository.insertIgnoreAll(uncachedTagNames);
+            List<Tag> savedTags = tagRepository.findLockedByNameIn(uncachedTagNames);
+            // 트랜잭션이 롤백되면 캐시에 반영되지 않음
+            savedTags.forEach(tag -> cache.put(tag.getName(), tag.getId()));
+            tags.addAll(savedTags);
+        }
+
+        return tags;
     }
 }
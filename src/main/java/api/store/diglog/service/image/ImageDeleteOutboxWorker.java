@@ -0,0 +1,120 @@
+package api.store.diglog.service.image;
+
+import api.store.diglog.common.exception.CustomException;
+import api.store.diglog.common.util.S3Util;
+import api.store.diglog.model.entity.ImageDeleteOutbox;
+import api.store.diglog.repository.ImageDeleteOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+// image_delete_outbox를 주기적으로 읽어 S3에서 삭제, 실패한 이미지는 지수 백오프로 재시도
+@Slf4j
+@Component
+public class ImageDeleteOutboxWorker {
+
+    // S3 DeleteObjects 요청당 최대 key 수
+    private static final int MAX_BATCH_SIZE = 1000;
+    private static final int MAX_BACKOFF_EXPONENT = 16;
+
+    private final ImageDeleteOutboxRepository imageDeleteOutboxRepository;
+    private final S3Util s3Util;
+    private final int batchSize;
+    private final Duration backoff;
+    private final Duration maxBackoff;
+
+    private final Counter deletedCounter;
+    private final Counter failedCounter;
+    // 가장 오래된 outbox row의 대기 시간 (초), drain 이후 갱신
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    public ImageDeleteOutboxWorker(ImageDeleteOutboxRepository imageDeleteOutboxRepository,
+                                   S3Util s3Util,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${image.delete.batch-size:1000}") int batchSize,
+                                   @Value("${image.delete.backoff:30s}") Duration backoff,
+                                   @Value("${image.delete.max-backoff:1h}") Duration maxBackoff) {
+        this.imageDeleteOutboxRepository = imageDeleteOutboxRepository;
+        this.s3Util = s3Util;
+        this.batchSize = Math.min(batchSize, MAX_BATCH_SIZE);
+        this.backoff = backoff;
+        this.maxBackoff = maxBackoff;
+
+        this.deletedCounter = meterRegistry.counter("image.delete.outbox.deleted");
+        this.failedCounter = meterRegistry.counter("image.delete.outbox.failed");
+        Gauge.builder("image.delete.outbox.lag", lagSeconds, AtomicLong::get)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${image.delete.interval:10s}", initialDelayString = "${image.delete.interval:10s}")
+    public void drain() {
+        List<ImageDeleteOutbox> entries;
+        do {
+            entries = imageDeleteOutboxRepository.findByNextAttemptAtLessThanEqualOrderByNextAttemptAt(
+                    LocalDateTime.now(), Limit.of(batchSize));
+            if (!entries.isEmpty()) {
+                process(entries);
+            }
+        } while (entries.size() == batchSize);
+
+        updateLag();
+    }
+
+    private void process(List<ImageDeleteOutbox> entries) {
+        List<String> urls = entries.stream()
+                .map(ImageDeleteOutbox::getUrl)
+                .distinct()
+                .toList();
+
+        Set<String> failedUrls;
+        try {
+            failedUrls = new HashSet<>(s3Util.deleteImages(urls));
+        } catch (CustomException e) {
+            log.warn("Failed to delete {} images", urls.size(), e);
+            failedUrls = new HashSet<>(urls);
+        }
+
+        List<ImageDeleteOutbox> deletedEntries = new ArrayList<>();
+        List<ImageDeleteOutbox> failedEntries = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (ImageDeleteOutbox entry : entries) {
+            if (failedUrls.contains(entry.getUrl())) {
+                entry.retryAt(now.plus(getBackoff(entry.getAttempts())));
+                failedEntries.add(entry);
+            } else {
+                deletedEntries.add(entry);
+            }
+        }
+
+        imageDeleteOutboxRepository.deleteAllInBatch(deletedEntries);
+        imageDeleteOutboxRepository.saveAll(failedEntries);
+        deletedCounter.increment(deletedEntries.size());
+        failedCounter.increment(failedEntries.size());
+    }
+
+    private Duration getBackoff(int attempts) {
+        Duration delay = backoff.multipliedBy(1L << Math.min(attempts, MAX_BACKOFF_EXPONENT));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private void updateLag() {
+        long lag = imageDeleteOutboxRepository.findOldestCreatedAt()
+                .map(createdAt -> Duration.between(createdAt, LocalDateTime.now()).toSeconds())
+                .orElse(0L);
+        lagSeconds.set(lag);
+    }
+}
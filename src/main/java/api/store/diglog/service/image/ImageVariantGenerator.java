@@ -0,0 +1,176 @@
+package api.store.diglog.service.image;
+
+import api.store.diglog.common.config.CacheConfig;
+import api.store.diglog.common.util.S3Util;
+import api.store.diglog.model.entity.ImageVariant;
+import api.store.diglog.repository.ImageVariantRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// 프로필 이미지의 리사이즈 버전(JPEG)을 백그라운드에서 생성, 원본보다 작은 width만 생성
+@Slf4j
+@Component
+public class ImageVariantGenerator implements DisposableBean {
+
+    private static final String CONTENT_TYPE = "image/jpeg";
+    private static final String FORMAT = "jpeg";
+    private static final float QUALITY = 0.8f;
+
+    private final S3Util s3Util;
+    private final ImageVariantRepository imageVariantRepository;
+    private final CacheManager cacheManager;
+    private final List<Integer> widths;
+    // 변환 작업은 CPU를 많이 사용하므로 풀 크기와 큐를 제한 (큐가 가득 차면 변환을 건너뛰고 원본 사용)
+    private final ThreadPoolExecutor executor;
+
+    public ImageVariantGenerator(S3Util s3Util,
+                                 ImageVariantRepository imageVariantRepository,
+                                 CacheManager cacheManager,
+                                 @Value("${image.variant.widths:160,640,1280}") List<Integer> widths,
+                                 @Value("${image.variant.pool-size:2}") int poolSize,
+                                 @Value("${image.variant.queue-capacity:100}") int queueCapacity) {
+        this.s3Util = s3Util;
+        this.imageVariantRepository = imageVariantRepository;
+        this.cacheManager = cacheManager;
+        this.widths = widths.stream().sorted().toList();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("image-variant-"));
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    // 생성 이후 refId의 프로필 url 캐시 무효화
+    public void submit(String sourceUrl, UUID refId) {
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(sourceUrl, refId);
+                } catch (IOException | RuntimeException e) {
+                    log.warn("Failed to generate image variants {}", sourceUrl, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Image variant queue is full, skip {}", sourceUrl);
+        }
+    }
+
+    public void generate(String sourceUrl, UUID refId) throws IOException {
+        List<ImageVariant> variants = new ArrayList<>();
+
+        try (InputStream inputStream = s3Util.getImage(sourceUrl);
+             ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+            if (!readers.hasNext()) {
+                return;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInputStream, true, true);
+                int originalWidth = reader.getWidth(0);
+                List<Integer> targetWidths = widths.stream()
+                        .filter(width -> width < originalWidth)
+                        .toList();
+                if (targetWidths.isEmpty()) {
+                    return;
+                }
+
+                BufferedImage source = read(reader, originalWidth, targetWidths.getLast());
+                String key = s3Util.getKey(sourceUrl);
+                for (int width : targetWidths) {
+                    byte[] bytes = toJpeg(resize(source, width));
+                    String url = s3Util.uploadImage(key + "_w" + width + ".jpg", bytes, CONTENT_TYPE);
+                    variants.add(ImageVariant.builder()
+                            .sourceUrl(sourceUrl)
+                            .width(width)
+                            .url(url)
+                            .build());
+                }
+            } finally {
+                reader.dispose();
+            }
+        }
+
+        imageVariantRepository.saveAll(variants);
+
+        Cache cache = cacheManager.getCache(CacheConfig.PROFILE_URL);
+        cache.evict(refId);
+    }
+
+    // 가장 큰 variant보다 작아지지 않는 범위에서 픽셀을 건너뛰며 디코딩 (큰 원본 전체를 메모리에 올리지 않음)
+    private BufferedImage read(ImageReader reader, int originalWidth, int maxWidth) throws IOException {
+        int subsampling = Math.max(1, originalWidth / maxWidth);
+        ImageReadParam param = reader.getDefaultReadParam();
+        param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+        return reader.read(0, param);
+    }
+
+    private BufferedImage resize(BufferedImage source, int width) {
+        int height = Math.max(1, Math.round((float) source.getHeight() * width / source.getWidth()));
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            // JPEG는 투명도를 지원하지 않으므로 흰 배경
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        return resized;
+    }
+
+    private byte[] toJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(FORMAT).next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(QUALITY);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+            writer.setOutput(imageOutputStream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+
+        return outputStream.toByteArray();
+    }
+}
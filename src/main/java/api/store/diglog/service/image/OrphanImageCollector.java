@@ -0,0 +1,120 @@
+package api.store.diglog.service.image;
+
+import api.store.diglog.common.util.S3Util;
+import api.store.diglog.model.entity.Image;
+import api.store.diglog.model.entity.ImageDeleteOutbox;
+import api.store.diglog.repository.ImageDeleteOutboxRepository;
+import api.store.diglog.repository.ImageRepository;
+import api.store.diglog.repository.ImageVariantRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// 어떤 row도 참조하지 않는 S3 이미지 (저장되지 않은 에디터 업로드 등)를 찾아 outbox로 삭제 요청
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "image.gc.enabled", havingValue = "true")
+public class OrphanImageCollector {
+
+    private static final String PREFIX = "diglog/";
+    private static final int PAGE_SIZE = 1000;
+
+    private final S3Util s3Util;
+    private final ImageRepository imageRepository;
+    private final ImageVariantRepository imageVariantRepository;
+    private final ImageDeleteOutboxRepository imageDeleteOutboxRepository;
+    private final TransactionTemplate transactionTemplate;
+    // 업로드 이후 게시글 저장까지 기다리는 시간
+    private final Duration gracePeriod;
+    private final boolean dryRun;
+
+    public OrphanImageCollector(S3Util s3Util,
+                                ImageRepository imageRepository,
+                                ImageVariantRepository imageVariantRepository,
+                                ImageDeleteOutboxRepository imageDeleteOutboxRepository,
+                                TransactionTemplate transactionTemplate,
+                                @Value("${image.gc.grace-period:1d}") Duration gracePeriod,
+                                @Value("${image.gc.dry-run:false}") boolean dryRun) {
+        this.s3Util = s3Util;
+        this.imageRepository = imageRepository;
+        this.imageVariantRepository = imageVariantRepository;
+        this.imageDeleteOutboxRepository = imageDeleteOutboxRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.gracePeriod = gracePeriod;
+        this.dryRun = dryRun;
+    }
+
+    @Scheduled(cron = "${image.gc.cron:0 0 4 * * *}")
+    public void collect() {
+        collect(dryRun);
+    }
+
+    // S3 목록을 한 페이지씩 읽고, 페이지의 url만 IN 조회해 참조 여부 확인
+    public int collect(boolean dryRun) {
+        Instant threshold = Instant.now().minus(gracePeriod);
+        int scanned = 0;
+        int orphaned = 0;
+
+        for (List<S3Object> objects : s3Util.listImages(PREFIX, PAGE_SIZE)) {
+            scanned += objects.size();
+
+            List<String> urls = objects.stream()
+                    .filter(object -> object.lastModified().isBefore(threshold))
+                    .map(object -> s3Util.getUrl(object.key()))
+                    .toList();
+            List<String> orphanUrls = findOrphanUrls(urls);
+            orphaned += orphanUrls.size();
+
+            if (dryRun) {
+                orphanUrls.forEach(url -> log.info("Orphan image (dry-run) {}", url));
+            } else {
+                enqueueDeletion(orphanUrls);
+            }
+        }
+
+        log.info("Orphan image scan finished: scanned={}, orphaned={}, dryRun={}", scanned, orphaned, dryRun);
+        return orphaned;
+    }
+
+    private List<String> findOrphanUrls(List<String> urls) {
+        if (urls.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> referencedUrls = new HashSet<>(imageVariantRepository.findReferencedUrlsByUrlIn(urls));
+        imageRepository.findByUrlIn(urls).stream()
+                .map(Image::getUrl)
+                .forEach(referencedUrls::add);
+
+        return urls.stream()
+                .filter(url -> !referencedUrls.contains(url))
+                .toList();
+    }
+
+    private void enqueueDeletion(List<String> orphanUrls) {
+        if (orphanUrls.isEmpty()) {
+            return;
+        }
+
+        List<ImageDeleteOutbox> outboxes = orphanUrls.stream()
+                .map(url -> ImageDeleteOutbox.builder()
+                        .url(url)
+                        .build())
+                .toList();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            imageVariantRepository.deleteAllByUrlIn(orphanUrls);
+            imageDeleteOutboxRepository.saveAll(outboxes);
+        });
+    }
+}
@@ -0,0 +1,51 @@
+package api.store.diglog.service.refresh;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+// 단일 인스턴스용 메모리 저장소, jwt.expire.refresh 이후 자동 만료 (재시작 시 모든 refresh 토큰이 폐기됨)
+@Component
+@ConditionalOnProperty(name = "refresh.store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    // tokenHash -> email
+    private final Cache<String, String> emailsByTokenHash;
+    // email -> tokenHash
+    private final Cache<String, String> tokenHashesByEmail;
+
+    public InMemoryRefreshTokenStore(@Value("${jwt.expire.refresh}") int refreshSeconds) {
+        Duration ttl = Duration.ofSeconds(refreshSeconds);
+        this.emailsByTokenHash = Caffeine.newBuilder().expireAfterWrite(ttl).build();
+        this.tokenHashesByEmail = Caffeine.newBuilder().expireAfterWrite(ttl).build();
+    }
+
+    @Override
+    public void save(String email, String tokenHash, Instant expiresAt) {
+        tokenHashesByEmail.asMap().compute(email, (key, previousTokenHash) -> {
+            if (previousTokenHash != null) {
+                emailsByTokenHash.invalidate(previousTokenHash);
+            }
+            emailsByTokenHash.put(tokenHash, email);
+            return tokenHash;
+        });
+    }
+
+    @Override
+    public boolean exists(String tokenHash) {
+        return emailsByTokenHash.getIfPresent(tokenHash) != null;
+    }
+
+    @Override
+    public void deleteAllByEmail(String email) {
+        String tokenHash = tokenHashesByEmail.asMap().remove(email);
+        if (tokenHash != null) {
+            emailsByTokenHash.invalidate(tokenHash);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package api.store.diglog.service.refresh;
+
+import api.store.diglog.model.entity.Refresh;
+import api.store.diglog.repository.RefreshRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+// refresh_token 테이블의 PK(token_hash) 조회
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "refresh.store", havingValue = "jpa", matchIfMissing = true)
+@RequiredArgsConstructor
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    private final RefreshRepository refreshRepository;
+
+    @Override
+    @Transactional
+    public void save(String email, String tokenHash, Instant expiresAt) {
+        refreshRepository.deleteAllByEmail(email);
+
+        Refresh refresh = Refresh.builder()
+                .tokenHash(tokenHash)
+                .email(email)
+                .expiresAt(toLocalDateTime(expiresAt))
+                .build();
+
+        refreshRepository.save(refresh);
+    }
+
+    @Override
+    public boolean exists(String tokenHash) {
+        return refreshRepository.existsByTokenHashAndExpiresAtAfter(tokenHash, LocalDateTime.now());
+    }
+
+    @Override
+    @Transactional
+    public void deleteAllByEmail(String email) {
+        refreshRepository.deleteAllByEmail(email);
+    }
+
+    // 다시 로그인하지 않은 회원의 만료된 토큰은 save에서 지워지지 않으므로 주기적으로 삭제
+    @Scheduled(cron = "${refresh.purge.cron:0 30 4 * * *}")
+    @Transactional
+    public void deleteExpired() {
+        int deleted = refreshRepository.deleteAllByExpiresAtBefore(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("Deleted {} expired refresh tokens", deleted);
+        }
+    }
+
+    private LocalDateTime toLocalDateTime(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,14 @@
+package api.store.diglog.service.refresh;
+
+import java.time.Instant;
+
+// refresh 토큰 저장소, 토큰 원문 대신 SHA-256 digest로 저장/조회
+public interface RefreshTokenStore {
+
+    // email의 기존 토큰을 모두 폐기하고 새 토큰을 저장
+    void save(String email, String tokenHash, Instant expiresAt);
+
+    boolean exists(String tokenHash);
+
+    void deleteAllByEmail(String email);
+}
@@ -0,0 +1,57 @@
+package api.store.diglog.service.render;
+
+import api.store.diglog.model.vo.post.PostHeadingVO;
+import api.store.diglog.model.vo.post.RenderedPostVO;
+import org.commonmark.Extension;
+import org.commonmark.ext.gfm.tables.TablesExtension;
+import org.commonmark.ext.heading.anchor.HeadingAnchorExtension;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.safety.Safelist;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Markdown -> HTML (XSS 방지를 위해 허용된 태그/속성만 남김), 목차, 단어 수, 읽는 시간, 본문 요약
+@Component
+public class MarkdownRenderer {
+
+    private static final int WORDS_PER_MINUTE = 200;
+    private static final int EXCERPT_LENGTH = 200;
+    private static final String HEADINGS = "h1, h2, h3, h4, h5, h6";
+
+    private final List<Extension> extensions = List.of(TablesExtension.create(), HeadingAnchorExtension.create());
+    // Parser, HtmlRenderer는 thread-safe
+    private final Parser parser = Parser.builder().extensions(extensions).build();
+    private final HtmlRenderer htmlRenderer = HtmlRenderer.builder().extensions(extensions).build();
+    private final Safelist safelist = Safelist.relaxed()
+            .addAttributes("h1", "id")
+            .addAttributes("h2", "id")
+            .addAttributes("h3", "id")
+            .addAttributes("h4", "id")
+            .addAttributes("h5", "id")
+            .addAttributes("h6", "id")
+            .addAttributes("code", "class");
+
+    public RenderedPostVO render(String markdown) {
+        String html = Jsoup.clean(htmlRenderer.render(parser.parse(markdown)), safelist);
+        Document document = Jsoup.parseBodyFragment(html);
+
+        List<PostHeadingVO> toc = document.select(HEADINGS).stream()
+                .map(heading -> new PostHeadingVO(heading.tagName().charAt(1) - '0', heading.text(), heading.id()))
+                .toList();
+
+        String text = document.text();
+        int wordCount = text.isBlank() ? 0 : text.trim().split("\\s+").length;
+
+        return RenderedPostVO.builder()
+                .html(html)
+                .toc(toc)
+                .wordCount(wordCount)
+                .readingMinutes(Math.max(1, (wordCount + WORDS_PER_MINUTE - 1) / WORDS_PER_MINUTE))
+                .excerpt(text.length() > EXCERPT_LENGTH ? text.substring(0, EXCERPT_LENGTH) : text)
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+package api.store.diglog.service.render;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// post_render 도입 이후, 또는 렌더링 작업을 건너뛴 게시글이 있을 때 한 번 실행 (post.render.backfill=true)
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "post.render.backfill", havingValue = "true")
+@RequiredArgsConstructor
+public class PostRenderBackfillRunner implements ApplicationRunner {
+
+    private final PostRenderer postRenderer;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int rendered = postRenderer.backfill();
+        log.info("Rendered {} posts", rendered);
+    }
+}
@@ -0,0 +1,121 @@
+package api.store.diglog.service.render;
+
+import api.store.diglog.common.config.CacheConfig;
+import api.store.diglog.common.event.PostChangedEvent;
+import api.store.diglog.model.entity.Post;
+import api.store.diglog.model.entity.PostRender;
+import api.store.diglog.repository.PostRenderRepository;
+import api.store.diglog.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// 게시글 저장/수정 커밋 이후 본문을 백그라운드에서 렌더링해 post_render에 저장
+@Slf4j
+@Component
+public class PostRenderer implements DisposableBean {
+
+    private static final int BACKFILL_BATCH_SIZE = 100;
+    // DB의 UUID는 byte 순서로 비교하므로 0으로 채운 값이 가장 작음
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+
+    private final PostRepository postRepository;
+    private final PostRenderRepository postRenderRepository;
+    private final MarkdownRenderer markdownRenderer;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheManager cacheManager;
+    // 렌더링 시점의 본문을 읽으므로, 같은 게시글의 작업이 순서대로 실행되도록 스레드 1개 사용
+    // 큐가 가득 차면 건너뜀 (렌더링 결과가 없는 동안 응답에는 원본 Markdown만 포함, backfill로 복구)
+    private final ThreadPoolExecutor executor;
+
+    public PostRenderer(PostRepository postRepository,
+                        PostRenderRepository postRenderRepository,
+                        MarkdownRenderer markdownRenderer,
+                        TransactionTemplate transactionTemplate,
+                        CacheManager cacheManager,
+                        @Value("${post.render.queue-capacity:1000}") int queueCapacity) {
+        this.postRepository = postRepository;
+        this.postRenderRepository = postRenderRepository;
+        this.markdownRenderer = markdownRenderer;
+        this.transactionTemplate = transactionTemplate;
+        this.cacheManager = cacheManager;
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("post-render-"));
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        UUID postId = event.getPostId();
+        try {
+            executor.execute(() -> {
+                try {
+                    render(postId);
+                } catch (RuntimeException e) {
+                    log.warn("Failed to render post {}", postId, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Post render queue is full, skip {}", postId);
+        }
+    }
+
+    public void render(UUID postId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Optional<Post> post = postRepository.findByIdAndIsDeletedFalse(postId);
+            if (post.isEmpty()) {
+                postRenderRepository.findById(postId).ifPresent(postRenderRepository::delete);
+                return;
+            }
+
+            postRenderRepository.save(PostRender.builder()
+                    .postId(postId)
+                    .renderedPost(markdownRenderer.render(post.get().getContent()))
+                    .sourceUpdatedAt(post.get().getUpdatedAt())
+                    .build());
+        });
+
+        cacheManager.getCache(CacheConfig.POST).evict(postId);
+    }
+
+    // 렌더링 결과가 없거나 이전 본문의 결과인 게시글을 렌더링, 실패한 게시글은 건너뜀
+    public int backfill() {
+        int rendered = 0;
+        UUID lastId = MIN_ID;
+        List<UUID> postIds;
+        do {
+            postIds = postRenderRepository.findUnrenderedPostIds(lastId, Limit.of(BACKFILL_BATCH_SIZE));
+            for (UUID postId : postIds) {
+                try {
+                    render(postId);
+                    rendered++;
+                } catch (RuntimeException e) {
+                    log.warn("Failed to render post {}", postId, e);
+                }
+            }
+            if (!postIds.isEmpty()) {
+                lastId = postIds.getLast();
+            }
+        } while (postIds.size() == BACKFILL_BATCH_SIZE);
+
+        return rendered;
+    }
+}
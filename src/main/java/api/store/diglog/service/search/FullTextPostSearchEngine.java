@@ -0,0 +1,71 @@
+package api.store.diglog.service.search;
+
+import api.store.diglog.model.constant.SearchOption;
+import api.store.diglog.model.vo.post.PostSummaryVO;
+import api.store.diglog.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// MySQL FULLTEXT(ngram parser) 검색, 관련도 순으로 정렬
+@Component
+@ConditionalOnProperty(name = "search.engine", havingValue = "fulltext")
+@RequiredArgsConstructor
+public class FullTextPostSearchEngine implements PostSearchEngine, InitializingBean {
+
+    // boolean mode 연산자
+    private static final String BOOLEAN_MODE_OPERATORS = "[+\\-<>()~*\"@]";
+
+    private final PostRepository postRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        createIndexIfNotExists("post", "ft_post_title", "title");
+        createIndexIfNotExists("tag", "ft_tag_name", "name");
+    }
+
+    // 한글 검색을 위해 ngram parser를 사용하는 FULLTEXT 인덱스가 없으면 생성
+    private void createIndexIfNotExists(String table, String index, String column) {
+        Integer count = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?
+                """, Integer.class, table, index);
+
+        if (count != null && count == 0) {
+            jdbcTemplate.execute(String.format("CREATE FULLTEXT INDEX %s ON %s (%s) WITH PARSER ngram", index, table, column));
+        }
+    }
+
+    @Override
+    public Page<PostSummaryVO> search(String keyword, SearchOption option, Pageable pageable) {
+        String phrase = toPhrase(keyword);
+        if (phrase == null) {
+            return Page.empty(pageable);
+        }
+
+        // 요청한 정렬 조건 대신 관련도 순으로 정렬
+        Pageable relevancePageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+
+        return switch (option) {
+            case ALL -> postRepository.findSummariesByTitleOrTagNameFullText(phrase, relevancePageable);
+            case TITLE -> postRepository.findSummariesByTitleFullText(phrase, relevancePageable);
+            case TAG -> postRepository.findSummariesByTagNameFullText(phrase, relevancePageable);
+        };
+    }
+
+    // boolean mode 연산자를 제거하고 구문 검색어로 변환
+    private String toPhrase(String keyword) {
+        if (keyword == null) {
+            return null;
+        }
+
+        String sanitized = keyword.replaceAll(BOOLEAN_MODE_OPERATORS, " ").trim();
+        return sanitized.isEmpty() ? null : "\"" + sanitized + "\"";
+    }
+}
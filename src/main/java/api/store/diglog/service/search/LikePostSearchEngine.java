@@ -0,0 +1,28 @@
+package api.store.diglog.service.search;
+
+import api.store.diglog.model.constant.SearchOption;
+import api.store.diglog.model.vo.post.PostSummaryVO;
+import api.store.diglog.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+// LIKE '%keyword%' 검색 (기본값), 요청한 정렬 조건을 그대로 사용
+@Component
+@ConditionalOnProperty(name = "search.engine", havingValue = "like", matchIfMissing = true)
+@RequiredArgsConstructor
+public class LikePostSearchEngine implements PostSearchEngine {
+
+    private final PostRepository postRepository;
+
+    @Override
+    public Page<PostSummaryVO> search(String keyword, SearchOption option, Pageable pageable) {
+        return switch (option) {
+            case ALL -> postRepository.findSummariesByTitleOrTagNameContaining(keyword, pageable);
+            case TITLE -> postRepository.findSummariesByTitleContaining(keyword, pageable);
+            case TAG -> postRepository.findSummariesByTagNameContaining(keyword, pageable);
+        };
+    }
+}
@@ -0,0 +1,305 @@
+package api.store.diglog.service.search;
+
+import api.store.diglog.common.event.PostChangedEvent;
+import api.store.diglog.common.exception.CustomException;
+import api.store.diglog.model.constant.SearchOption;
+import api.store.diglog.model.vo.post.PostSummaryVO;
+import api.store.diglog.model.vo.tag.PostTagVO;
+import api.store.diglog.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.cjk.CJKAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static api.store.diglog.common.exception.ErrorCode.POST_SEARCH_FAILED;
+
+// 로컬 디스크의 Lucene 역색인 검색 (BM25 관련도 순)
+// 게시글 변경 시 커밋 이후 백그라운드에서 색인 갱신 (NRT refresh), 디스크 commit은 주기적으로 수행
+// commit 시 watermark(updatedAt 기준)를 함께 저장하고, 그 이후 변경된 게시글을 다시 색인해 누락된 이벤트나 비정상 종료로 어긋난 색인을 복구
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "search.engine", havingValue = "lucene")
+@RequiredArgsConstructor
+public class LucenePostSearchEngine implements PostSearchEngine, InitializingBean, DisposableBean {
+
+    private static final String ID_FIELD = "id";
+    private static final String TITLE_FIELD = "title";
+    private static final String TAG_FIELD = "tag";
+    private static final int REBUILD_BATCH_SIZE = 500;
+    private static final int QUEUE_CAPACITY = 1000;
+    private static final String WATERMARK_KEY = "watermark";
+    // 조회 이후 커밋된 트랜잭션의 변경도 포함하도록 watermark보다 앞선 시점부터 다시 색인
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
+    private final PostRepository postRepository;
+
+    @Value("${search.lucene.path:./search-index/post}")
+    private String indexPath;
+
+    private Analyzer analyzer;
+    private IndexWriter indexWriter;
+    private SearcherManager searcherManager;
+    // 이 시각 이후 변경된 게시글은 아직 commit되지 않았을 수 있음
+    private LocalDateTime watermark;
+
+    // 색인 갱신 요청 스레드에서 fsync하지 않도록 백그라운드에서 처리 (큐가 가득 차면 건너뛰고 sync에서 복구)
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(QUEUE_CAPACITY), new CustomizableThreadFactory("post-index-"));
+
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        // 한글은 bigram으로 분리 (MySQL ngram parser와 동일한 방식)
+        analyzer = new CJKAnalyzer();
+        indexWriter = new IndexWriter(FSDirectory.open(Path.of(indexPath)), new IndexWriterConfig(analyzer));
+        searcherManager = new SearcherManager(indexWriter, null);
+
+        // 마지막 commit의 watermark가 없거나 게시글 수가 다르면 재생성, 아니면 watermark 이후 변경만 다시 색인
+        String committedWatermark = getCommitData(WATERMARK_KEY);
+        if (committedWatermark == null || indexWriter.getDocStats().numDocs != postRepository.countByIsDeletedFalse()) {
+            rebuild();
+        } else {
+            watermark = LocalDateTime.parse(committedWatermark);
+            sync();
+        }
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        commit();
+        searcherManager.close();
+        indexWriter.close();
+    }
+
+    // 삭제되지 않은 전체 게시글로 색인 재생성
+    public synchronized void rebuild() throws IOException {
+        LocalDateTime startedAt = LocalDateTime.now();
+        indexWriter.deleteAll();
+
+        Pageable pageable = PageRequest.of(0, REBUILD_BATCH_SIZE, Sort.by("createdAt", "id"));
+        Page<PostSummaryVO> postSummaries;
+        do {
+            postSummaries = postRepository.findSummariesByIsDeletedFalse(pageable);
+            List<PostSummaryVO> contents = postSummaries.getContent();
+            Map<UUID, List<String>> tagNamesByPostId = getTagNamesByPostId(contents);
+
+            for (PostSummaryVO postSummary : contents) {
+                indexWriter.addDocument(toDocument(postSummary, tagNamesByPostId.getOrDefault(postSummary.getId(), List.of())));
+            }
+            pageable = pageable.next();
+        } while (postSummaries.hasNext());
+
+        watermark = startedAt;
+        commit();
+        searcherManager.maybeRefresh();
+    }
+
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        UUID postId = event.getPostId();
+        try {
+            executor.execute(() -> {
+                try {
+                    reindex(List.of(postId));
+                    searcherManager.maybeRefresh();
+                } catch (IOException | RuntimeException e) {
+                    log.warn("Failed to index post {}", postId, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Post index queue is full, skip {}", postId);
+        }
+    }
+
+    // watermark 이후 변경된 게시글을 다시 색인하고 commit
+    @Scheduled(fixedDelayString = "${search.lucene.commit-interval:30s}",
+            initialDelayString = "${search.lucene.commit-interval:30s}")
+    public synchronized void sync() throws IOException {
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<UUID> postIds = postRepository.findIdsByUpdatedAtGreaterThanEqual(watermark.minus(SYNC_OVERLAP));
+        for (int from = 0; from < postIds.size(); from += REBUILD_BATCH_SIZE) {
+            reindex(postIds.subList(from, Math.min(from + REBUILD_BATCH_SIZE, postIds.size())));
+        }
+
+        watermark = startedAt;
+        commit();
+        searcherManager.maybeRefresh();
+    }
+
+    // 삭제된 게시글은 색인에서 제거
+    private synchronized void reindex(List<UUID> postIds) throws IOException {
+        List<PostSummaryVO> postSummaries = postRepository.findSummariesByIdIn(postIds);
+        Map<UUID, List<String>> tagNamesByPostId = getTagNamesByPostId(postSummaries);
+
+        Set<UUID> deletedPostIds = new HashSet<>(postIds);
+        for (PostSummaryVO postSummary : postSummaries) {
+            deletedPostIds.remove(postSummary.getId());
+            List<String> tagNames = tagNamesByPostId.getOrDefault(postSummary.getId(), List.of());
+            indexWriter.updateDocument(new Term(ID_FIELD, postSummary.getId().toString()), toDocument(postSummary, tagNames));
+        }
+        for (UUID postId : deletedPostIds) {
+            indexWriter.deleteDocuments(new Term(ID_FIELD, postId.toString()));
+        }
+    }
+
+    private void commit() throws IOException {
+        indexWriter.setLiveCommitData(Map.of(WATERMARK_KEY, watermark.toString()).entrySet());
+        indexWriter.commit();
+    }
+
+    private String getCommitData(String key) {
+        for (Map.Entry<String, String> entry : indexWriter.getLiveCommitData()) {
+            if (entry.getKey().equals(key)) {
+                return entry.getValue();
+            }
+        }
+
+        return null;
+    }
+
+    private Map<UUID, List<String>> getTagNamesByPostId(List<PostSummaryVO> postSummaries) {
+        if (postSummaries.isEmpty()) {
+            return Map.of();
+        }
+
+        List<UUID> postIds = postSummaries.stream().map(PostSummaryVO::getId).toList();
+        return postRepository.findAllTagsByPostIdIn(postIds).stream()
+                .collect(Collectors.groupingBy(PostTagVO::getPostId,
+                        Collectors.mapping(PostTagVO::getName, Collectors.toList())));
+    }
+
+    private Document toDocument(PostSummaryVO postSummary, List<String> tagNames) {
+        Document document = new Document();
+        document.add(new StringField(ID_FIELD, postSummary.getId().toString(), Field.Store.YES));
+        document.add(new TextField(TITLE_FIELD, postSummary.getTitle(), Field.Store.NO));
+        tagNames.forEach(tagName -> document.add(new TextField(TAG_FIELD, tagName, Field.Store.NO)));
+
+        return document;
+    }
+
+    @Override
+    public Page<PostSummaryVO> search(String keyword, SearchOption option, Pageable pageable) {
+        Query query = buildQuery(keyword, option);
+        if (query == null) {
+            return Page.empty(pageable);
+        }
+
+        List<UUID> postIds = new ArrayList<>();
+        int totalHits;
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            int offset = (int) pageable.getOffset();
+            TopDocs topDocs = searcher.search(query, offset + pageable.getPageSize());
+            totalHits = searcher.count(query);
+
+            ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+            for (int i = offset; i < scoreDocs.length; i++) {
+                postIds.add(UUID.fromString(searcher.storedFields().document(scoreDocs[i].doc).get(ID_FIELD)));
+            }
+        } catch (IOException e) {
+            throw new CustomException(POST_SEARCH_FAILED);
+        } finally {
+            release(searcher);
+        }
+
+        // 관련도 순서 유지
+        Map<UUID, PostSummaryVO> postSummaryById = postIds.isEmpty()
+                ? Map.of()
+                : postRepository.findSummariesByIdIn(postIds).stream()
+                .collect(Collectors.toMap(PostSummaryVO::getId, Function.identity()));
+        List<PostSummaryVO> postSummaries = postIds.stream()
+                .map(postSummaryById::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return new PageImpl<>(postSummaries, pageable, totalHits);
+    }
+
+    private Query buildQuery(String keyword, SearchOption option) {
+        if (keyword == null || keyword.isBlank()) {
+            return null;
+        }
+
+        QueryBuilder queryBuilder = new QueryBuilder(analyzer);
+        Query titleQuery = queryBuilder.createPhraseQuery(TITLE_FIELD, keyword);
+        Query tagQuery = queryBuilder.createPhraseQuery(TAG_FIELD, keyword);
+        if (titleQuery == null || tagQuery == null) {
+            return null;
+        }
+
+        return switch (option) {
+            case ALL -> new BooleanQuery.Builder()
+                    .add(titleQuery, BooleanClause.Occur.SHOULD)
+                    .add(tagQuery, BooleanClause.Occur.SHOULD)
+                    .build();
+            case TITLE -> titleQuery;
+            case TAG -> tagQuery;
+        };
+    }
+
+    private void release(IndexSearcher searcher) {
+        if (searcher == null) {
+            return;
+        }
+
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            log.warn("Failed to release index searcher", e);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package api.store.diglog.service.search;
+
+import api.store.diglog.common.event.MemberChangedEvent;
+import api.store.diglog.model.entity.Member;
+import api.store.diglog.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+// 활성 회원 username의 정렬된 인메모리 색인 (대소문자 무시 prefix 검색), 회원 가입/username 변경 시 커밋 이후 갱신
+@Component
+@RequiredArgsConstructor
+public class MemberUsernameIndex {
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    // 소문자 username이 같은 회원을 구분하기 위한 구분자 (어떤 문자보다 앞에 정렬)
+    private static final char SEPARATOR = '\u0000';
+
+    private final MemberRepository memberRepository;
+
+    // 첫 검색 시 생성
+    private volatile Entries entries;
+    // 재생성 중에 받은 변경, 조회 결과(변경 이전일 수 있음)를 교체한 뒤 다시 반영 (changeLock으로 보호)
+    private final Object changeLock = new Object();
+    private List<MemberChangedEvent> changesDuringRebuild;
+
+    public record Entry(UUID id, String username) {
+    }
+
+    private record Entries(ConcurrentSkipListMap<String, Entry> entryByKey, Map<UUID, String> keyById) {
+
+        Entries() {
+            this(new ConcurrentSkipListMap<>(), new ConcurrentHashMap<>());
+        }
+    }
+
+    // 다른 인스턴스에서 변경된 회원도 반영되도록 주기적으로 전체 재생성
+    @Scheduled(fixedDelayString = "${member.username-index.refresh:10m}", initialDelayString = "${member.username-index.refresh:10m}")
+    public synchronized void rebuild() {
+        synchronized (changeLock) {
+            changesDuringRebuild = new ArrayList<>();
+        }
+
+        Entries rebuilt = new Entries();
+
+        Pageable pageable = PageRequest.of(0, REBUILD_BATCH_SIZE, Sort.by("id"));
+        Slice<Member> members;
+        do {
+            members = memberRepository.findAllByIsDeletedFalse(pageable);
+            members.forEach(member -> put(rebuilt, member.getId(), member.getUsername()));
+            pageable = pageable.next();
+        } while (members.hasNext());
+
+        synchronized (changeLock) {
+            changesDuringRebuild.forEach(event -> put(rebuilt, event.getMemberId(), event.getUsername()));
+            changesDuringRebuild = null;
+            entries = rebuilt;
+        }
+    }
+
+    // 아직 생성 전이면 첫 검색 시 DB에서 읽으므로 무시
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        synchronized (changeLock) {
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(event);
+            }
+
+            Entries current = entries;
+            if (current != null) {
+                put(current, event.getMemberId(), event.getUsername());
+            }
+        }
+    }
+
+    // username이 prefix로 시작하는 회원을 username 순으로 최대 limit명 반환
+    public List<Entry> search(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank() || limit <= 0) {
+            return List.of();
+        }
+
+        String from = normalize(prefix);
+        NavigableMap<String, Entry> matches = getEntries().entryByKey().subMap(from, true, from + Character.MAX_VALUE, false);
+
+        return matches.values().stream()
+                .limit(limit)
+                .toList();
+    }
+
+    private Entries getEntries() {
+        Entries current = entries;
+        if (current == null) {
+            synchronized (this) {
+                if (entries == null) {
+                    rebuild();
+                }
+                current = entries;
+            }
+        }
+
+        return current;
+    }
+
+    private void put(Entries target, UUID memberId, String username) {
+        String key = normalize(username) + SEPARATOR + memberId;
+        String previousKey = target.keyById().put(memberId, key);
+        if (previousKey != null && !previousKey.equals(key)) {
+            target.entryByKey().remove(previousKey);
+        }
+        target.entryByKey().put(key, new Entry(memberId, username));
+    }
+
+    private String normalize(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,12 @@
+package api.store.diglog.service.search;
+
+import api.store.diglog.model.constant.SearchOption;
+import api.store.diglog.model.vo.post.PostSummaryVO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+// 게시글 검색 구현체, search.engine 설정값(like, fulltext, lucene)으로 선택
+public interface PostSearchEngine {
+
+    Page<PostSummaryVO> search(String keyword, SearchOption option, Pageable pageable);
+}
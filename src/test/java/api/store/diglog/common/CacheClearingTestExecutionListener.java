@@ -0,0 +1,20 @@
+package api.store.diglog.common;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.support.AbstractTestExecutionListener;
+
+// 테스트마다 같은 email로 회원을 다시 생성하므로, 이전 테스트의 캐시가 남지 않도록 테스트 메서드 종료 후 캐시 초기화
+public class CacheClearingTestExecutionListener extends AbstractTestExecutionListener {
+
+    @Override
+    public void afterTestMethod(TestContext testContext) {
+        if (!testContext.hasApplicationContext()) {
+            return;
+        }
+
+        testContext.getApplicationContext().getBeanProvider(CacheManager.class)
+                .ifAvailable(cacheManager -> cacheManager.getCacheNames()
+                        .forEach(cacheName -> cacheManager.getCache(cacheName).invalidate()));
+    }
+}
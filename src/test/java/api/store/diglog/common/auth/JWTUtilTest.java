@@ -0,0 +1,73 @@
+package api.store.diglog.common.auth;
+
+import api.store.diglog.model.constant.Role;
+import api.store.diglog.model.entity.Member;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JWTUtilTest {
+
+    private static final String EMAIL = "test1@example.com";
+
+    private JWTUtil jwtUtil;
+
+    @BeforeEach
+    void beforeEach() {
+        jwtUtil = new JWTUtil();
+        ReflectionTestUtils.setField(jwtUtil, "key", "testtesttesttesttesttesttesttesttesttesttesttesttesttesttesttest");
+        ReflectionTestUtils.setField(jwtUtil, "accessSeconds", 1800);
+        ReflectionTestUtils.setField(jwtUtil, "verifiedTokenCacheSize", 100L);
+        jwtUtil.afterPropertiesSet();
+    }
+
+    @Test
+    @DisplayName("유효한 토큰으로 Authentication을 생성한다.")
+    void authenticate() {
+        // given
+        String authorization = "Bearer " + jwtUtil.generateAccessToken(getMember());
+
+        // when
+        Optional<Authentication> authentication1 = jwtUtil.authenticate(authorization);
+        Optional<Authentication> authentication2 = jwtUtil.authenticate(authorization);
+
+        // then
+        assertThat(authentication1).isPresent();
+        assertThat(authentication1.get().getName()).isEqualTo(EMAIL);
+        assertThat(authentication1.get().getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly(Role.ROLE_USER.getRole());
+        assertThat(authentication2).isPresent();
+        assertThat(authentication2.get()).isNotSameAs(authentication1.get());
+        assertThat(authentication2.get().getName()).isEqualTo(EMAIL);
+    }
+
+    @Test
+    @DisplayName("서명이 올바르지 않거나 형식이 잘못된 토큰은 인증하지 않는다.")
+    void authenticate2() {
+        // given
+        String accessToken = jwtUtil.generateAccessToken(getMember());
+        String tampered = accessToken.substring(0, accessToken.length() - 2) + "xx";
+
+        // when, then
+        assertThat(jwtUtil.authenticate("Bearer " + tampered)).isEmpty();
+        assertThat(jwtUtil.authenticate("Bearer invalid")).isEmpty();
+        assertThat(jwtUtil.authenticate("Bearer ")).isEmpty();
+        assertThat(jwtUtil.authenticate(null)).isEmpty();
+    }
+
+    private Member getMember() {
+        return Member.builder()
+                .email(EMAIL)
+                .username("test1")
+                .roles(Set.of(Role.ROLE_USER))
+                .build();
+    }
+}
@@ -0,0 +1,251 @@
+package api.store.diglog.common.util;
+
+import api.store.diglog.common.exception.CustomException;
+import api.store.diglog.common.exception.ErrorCode;
+import api.store.diglog.model.entity.ImageDeleteOutbox;
+import api.store.diglog.repository.ImageDeleteOutboxRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class S3UtilTest {
+
+    private static final String BUCKET = "test-bucket";
+    private static final String REGION = "ap-northeast-2";
+    private static final String URL_PREFIX = "https://" + BUCKET + ".s3." + REGION + ".amazonaws.com/";
+
+    private final FakeS3Client s3Client = new FakeS3Client();
+    private final ImageDeleteOutboxRepository imageDeleteOutboxRepository = mock(ImageDeleteOutboxRepository.class);
+    private S3Util s3Util;
+
+    @AfterEach
+    void afterEach() {
+        s3Client.release();
+        s3Util.destroy();
+    }
+
+    @Test
+    @DisplayName("파일 전체를 메모리에 올리지 않고 스트림으로 업로드한 뒤 url을 반환한다.")
+    void uploadImage() {
+        // given
+        s3Util = createS3Util(2, 2);
+        long size = 64L * 1024 * 1024;
+
+        // when
+        String url = s3Util.uploadImage(new StreamingMultipartFile("image.png", size));
+
+        // then
+        assertThat(url).startsWith(URL_PREFIX + "diglog/").endsWith("_image.png");
+        assertThat(s3Client.objects).containsEntry(url.substring(URL_PREFIX.length()), size);
+    }
+
+    @Test
+    @DisplayName("업로드 스레드와 대기열이 모두 찬 경우 업로드를 거절한다.")
+    void uploadImage2() {
+        // given
+        s3Util = createS3Util(1, 1);
+        s3Client.block();
+        s3Util.uploadImageAsync(new StreamingMultipartFile("image1.png", 1));
+        s3Util.uploadImageAsync(new StreamingMultipartFile("image2.png", 1));
+
+        // when
+        Throwable throwable = catchThrowable(() -> s3Util.uploadImageAsync(new StreamingMultipartFile("image3.png", 1)));
+
+        // then
+        assertThat(throwable).isInstanceOf(CustomException.class);
+        assertThat(((CustomException) throwable).getErrorCode()).isEqualTo(ErrorCode.S3_IMAGE_UPLOAD_BUSY);
+    }
+
+    @Test
+    @DisplayName("업로드 시간이 초과되면 업로드 스레드를 중단하고 업로드 중이던 이미지를 삭제 요청한다.")
+    void uploadImageTimeout() throws InterruptedException {
+        // given
+        s3Util = createS3Util(1, 1, Duration.ofMillis(100));
+        s3Client.block();
+
+        // when
+        Throwable throwable = catchThrowable(() -> s3Util.uploadImage(new StreamingMultipartFile("image.png", 10)));
+
+        // then
+        assertThat(throwable).isInstanceOf(CustomException.class);
+        assertThat(((CustomException) throwable).getErrorCode()).isEqualTo(ErrorCode.S3_IMAGE_UPLOAD_FAILED);
+        assertThat(s3Client.interrupted.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(s3Client.objects).isEmpty();
+        verify(imageDeleteOutboxRepository).save(argThat((ImageDeleteOutbox outbox) ->
+                outbox.getUrl().startsWith(URL_PREFIX + "diglog/") && outbox.getUrl().endsWith("_image.png")));
+    }
+
+    @Test
+    @DisplayName("업로드한 이미지를 삭제한다.")
+    void deleteImages() {
+        // given
+        s3Util = createS3Util(2, 2);
+        String url = s3Util.uploadImage(new StreamingMultipartFile("image.png", 10));
+
+        // when
+        s3Util.deleteImages(List.of(url));
+
+        // then
+        assertThat(s3Client.objects).isEmpty();
+    }
+
+    private S3Util createS3Util(int poolSize, int queueCapacity) {
+        return createS3Util(poolSize, queueCapacity, Duration.ofSeconds(10));
+    }
+
+    private S3Util createS3Util(int poolSize, int queueCapacity, Duration uploadTimeout) {
+        S3Util s3Util = new S3Util(s3Client, imageDeleteOutboxRepository, poolSize, queueCapacity, uploadTimeout);
+        ReflectionTestUtils.setField(s3Util, "bucket", BUCKET);
+        ReflectionTestUtils.setField(s3Util, "region", REGION);
+        return s3Util;
+    }
+
+    // 업로드 내용은 저장하지 않고 크기만 기록하는 S3 대역
+    private static class FakeS3Client implements S3Client {
+
+        private final Map<String, Long> objects = new ConcurrentHashMap<>();
+        private volatile CountDownLatch latch = new CountDownLatch(0);
+        private final CountDownLatch interrupted = new CountDownLatch(1);
+
+        void block() {
+            latch = new CountDownLatch(1);
+        }
+
+        void release() {
+            latch.countDown();
+        }
+
+        @Override
+        public PutObjectResponse putObject(PutObjectRequest putObjectRequest, RequestBody requestBody) {
+            try (InputStream inputStream = requestBody.contentStreamProvider().newStream()) {
+                latch.await(10, TimeUnit.SECONDS);
+                objects.put(putObjectRequest.key(), inputStream.transferTo(OutputStreamSink.INSTANCE));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                Thread.currentThread().interrupt();
+            }
+
+            return (PutObjectResponse) PutObjectResponse.builder()
+                    .sdkHttpResponse(SdkHttpResponse.builder().statusCode(200).build())
+                    .build();
+        }
+
+        @Override
+        public DeleteObjectsResponse deleteObjects(DeleteObjectsRequest deleteObjectsRequest) {
+            deleteObjectsRequest.delete().objects().forEach(object -> objects.remove(object.key()));
+            return DeleteObjectsResponse.builder().build();
+        }
+
+        @Override
+        public String serviceName() {
+            return "s3";
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static class OutputStreamSink extends java.io.OutputStream {
+
+        private static final OutputStreamSink INSTANCE = new OutputStreamSink();
+
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    }
+
+    // getBytes()를 지원하지 않고 내용을 미리 만들지 않는 MultipartFile
+    private record StreamingMultipartFile(String originalFilename, long size) implements MultipartFile {
+
+        @Override
+        public String getName() {
+            return "file";
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return originalFilename;
+        }
+
+        @Override
+        public String getContentType() {
+            return "image/png";
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        @Override
+        public long getSize() {
+            return size;
+        }
+
+        @Override
+        public byte[] getBytes() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new InputStream() {
+                private long remaining = size;
+
+                @Override
+                public int read() {
+                    if (remaining <= 0) {
+                        return -1;
+                    }
+                    remaining--;
+                    return 0;
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    if (remaining <= 0) {
+                        return -1;
+                    }
+                    int read = (int) Math.min(len, remaining);
+                    remaining -= read;
+                    return read;
+                }
+            };
+        }
+
+        @Override
+        public void transferTo(File dest) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -25,6 +25,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -50,6 +51,8 @@ class CommentControllerTest {
     @Autowired
     private PostRepository postRepository;
     @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
     private JWTUtil jwtUtil;
     @Autowired
     PasswordEncoder passwordEncoder;
@@ -324,6 +327,34 @@ class CommentControllerTest {
         assertThat(isPresent).isFalse();
     }
 
+    @Test
+    @DisplayName("답글 삭제 시 부모 댓글의 답글 수가 감소한다.")
+    void deleteReply() throws Exception {
+        // given
+        initReplyCounts();
+        Comment reply = commentRepository.findAll().stream()
+                .filter(comment -> !comment.isDeleted() && comment.getParentComment() != null)
+                .filter(comment -> comment.getParentComment().getParentComment() == null)
+                .findFirst()
+                .orElseThrow();
+        UUID parentCommentId = reply.getParentComment().getId();
+        int replyCount = commentRepository.findById(parentCommentId).orElseThrow().getReplyCount();
+
+        // when
+        mockMvc.perform(patch("/api/comment/delete/" + reply.getId())
+                        .header("Authorization", getAuthorization("test1@example.com"))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andReturn();
+        mockMvc.perform(patch("/api/comment/delete/" + reply.getId())
+                        .header("Authorization", getAuthorization("test1@example.com"))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andReturn();
+
+        // then
+        assertThat(replyCount).isGreaterThan(0);
+        assertThat(commentRepository.findById(parentCommentId).orElseThrow().getReplyCount()).isEqualTo(replyCount - 1);
+    }
+
     @Test
     @DisplayName("다른 사용자 댓글 삭제에 실패한다.")
     void delete2() throws Exception {
@@ -384,7 +415,14 @@ class CommentControllerTest {
         return getDefaultComments(member, post, parentComment, null, false);
     }
 
-    private String getAuthorization(String email) {
+    // 저장소로 직접 저장한 댓글의 답글 수 반영 (reconcileReplyCounts는 MySQL 전용 구문이므로 CommentRepositoryMySqlTest에서 검증)
+    private void initReplyCounts() {
+        transactionTemplate.executeWithoutResult(status -> commentRepository.findAll().stream()
+                .filter(comment -> !comment.isDeleted() && comment.getParentComment() != null)
+                .forEach(comment -> commentRepository.incrementReplyCount(comment.getParentComment().getId())));
+    }
+
+        private String getAuthorization(String email) {
         return "Bearer " + jwtUtil.generateAccessToken(getDefaultMember(email, false));
     }
 }
\ No newline at end of file
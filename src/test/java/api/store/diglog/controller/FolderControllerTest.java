@@ -206,6 +206,38 @@ class FolderControllerTest {
 			.andExpect(jsonPath("$[2].postCount").value(3L));
 	}
 
+	@DisplayName("폴더 목록이 바뀌지 않았으면 If-None-Match 요청에 304를 응답한다.")
+	@Test
+	@WithMockUser(username = EMAIL, password = PASSWORD)
+	void getFoldersWithPostCount_NotModified() throws Exception {
+
+		List<FolderPostCountResponse> folderPostCountResponses = List.of(
+			FolderPostCountResponse.builder()
+				.folderId(UUID.randomUUID())
+				.title("test01")
+				.depth(0)
+				.orderIndex(0)
+				.parentFolderId(null)
+				.postCount(1L)
+				.subtreePostCount(1L)
+				.build()
+		);
+
+		BDDMockito.given(folderService.getFoldersWithPostCount(any()))
+			.willReturn(folderPostCountResponses);
+
+		String eTag = mockMvc.perform(get("/api/folders/testUser"))
+			.andExpect(status().isOk())
+			.andExpect(header().exists("ETag"))
+			.andReturn()
+			.getResponse()
+			.getHeader("ETag");
+
+		mockMvc.perform(get("/api/folders/testUser").header("If-None-Match", eTag))
+			.andExpect(status().isNotModified())
+			.andExpect(content().string(""));
+	}
+
 	@DisplayName("폴더를 삭제할 수 있다.")
 	@Test
 	@WithMockUser(username = EMAIL, password = PASSWORD)
@@ -1,13 +1,14 @@
 package api.store.diglog.controller;
 
 import api.store.diglog.common.auth.JWTUtil;
+import api.store.diglog.common.util.HashUtil;
 import api.store.diglog.model.constant.Role;
 import api.store.diglog.model.dto.login.LoginRequest;
 import api.store.diglog.model.dto.login.LogoutRequest;
 import api.store.diglog.model.entity.Member;
-import api.store.diglog.model.entity.Refresh;
 import api.store.diglog.repository.MemberRepository;
 import api.store.diglog.repository.RefreshRepository;
+import api.store.diglog.service.refresh.RefreshTokenStore;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.Cookie;
@@ -45,6 +46,8 @@ class LoginControllerTest {
     @Autowired
     private RefreshRepository refreshRepository;
     @Autowired
+    private RefreshTokenStore refreshTokenStore;
+    @Autowired
     private JWTUtil jwtUtil;
     @Autowired
     private PasswordEncoder passwordEncoder;
@@ -74,7 +77,7 @@ class LoginControllerTest {
         JsonNode data = objectMapper.readTree(result.getResponse().getContentAsString());
 
         // then
-        assertThat(refreshRepository.countByRefreshToken(response.getCookie("refreshToken").getValue())).isEqualTo(1);
+        assertThat(refreshTokenStore.exists(HashUtil.sha256(response.getCookie("refreshToken").getValue()))).isTrue();
 
         assertThat(response.getStatus()).isEqualTo(200);
         assertThat(response.getHeader("Authorization")).startsWith("Bearer ");
@@ -159,10 +162,8 @@ class LoginControllerTest {
         // given
         Cookie refreshTokenCookie = jwtUtil.generateRefreshCookie(getMember());
         refreshRepository.deleteAll();
-        refreshRepository.save(Refresh.builder()
-                .email(getMember().getEmail())
-                .jwt(refreshTokenCookie.getValue())
-                .build());
+        refreshTokenStore.save(getMember().getEmail(), HashUtil.sha256(refreshTokenCookie.getValue()),
+                jwtUtil.getExpiration(refreshTokenCookie.getValue()));
 
         // when
         MvcResult result = mockMvc.perform(get("/api/member/refresh")
@@ -5,6 +5,7 @@ import api.store.diglog.model.constant.Role;
 import api.store.diglog.model.dto.member.MemberUsernameRequest;
 import api.store.diglog.model.entity.Member;
 import api.store.diglog.repository.MemberRepository;
+import api.store.diglog.service.search.MemberUsernameIndex;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.AfterEach;
@@ -43,6 +44,8 @@ class MemberControllerTest {
     private PasswordEncoder passwordEncoder;
     @Autowired
     private JWTUtil jwtUtil;
+    @Autowired
+    private MemberUsernameIndex memberUsernameIndex;
 
     @BeforeEach
     void beforeEach() {
@@ -73,6 +76,7 @@ class MemberControllerTest {
         // then
         assertThat(response.getStatus()).isEqualTo(200);
         assertThat(memberRepository.findByEmail("test@example.com").get().getUsername()).isEqualTo("newUsername");
+        assertThat(memberUsernameIndex.search("new", 10).getFirst().username()).isEqualTo("newUsername");
     }
 
     @Test
@@ -142,6 +146,27 @@ class MemberControllerTest {
         assertThat(data.get("content").get(0).get("username").asText()).isEqualTo("test");
     }
 
+    @Test
+    @DisplayName("username prefix로 다른 사용자 profile을 자동완성한다.")
+    void autocompleteProfileByUsername() throws Exception {
+        // given
+        memberRepository.save(defaultMember("tester@example.com"));
+        memberRepository.save(defaultMember("other@example.com"));
+        memberUsernameIndex.rebuild();
+
+        // when
+        MvcResult result = mockMvc.perform(get("/api/member/profile/autocomplete?username=TE&size=10"))
+                .andReturn();
+        MockHttpServletResponse response = result.getResponse();
+        JsonNode data = objectMapper.readTree(response.getContentAsString());
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(data.size()).isEqualTo(2);
+        assertThat(data.get(0).get("username").asText()).isEqualTo("test");
+        assertThat(data.get(1).get("username").asText()).isEqualTo("tester");
+    }
+
     private Member defaultMember(String email) {
         return Member.builder()
                 .email(email)
@@ -16,6 +16,9 @@ import api.store.diglog.repository.TagRepository;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -116,6 +119,7 @@ class PostControllerTest {
                 .urls(List.of("url2", "url3"))
                 .tagNames(List.of("tag1", "tag2"))
                 .build();
+        String titleBefore = getPostData(post.getId()).get("title").asText();
 
         // when
         MvcResult result = mockMvc.perform(patch("/api/post")
@@ -128,6 +132,13 @@ class PostControllerTest {
 
         // then
         assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(titleBefore).isEqualTo("test title");
+        assertThat(getPostData(post.getId()).get("title").asText()).isEqualTo("update title");
+    }
+
+    private JsonNode getPostData(UUID id) throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/post/" + id)).andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString());
     }
 
     @Test
@@ -208,6 +219,9 @@ class PostControllerTest {
                         UUID.fromString("11111111-1111-1111-1111-111111111113")))
                 .folderId(folderId)
                 .build();
+        long postCountBefore = getFolderPostCount(member.getUsername(), folderId);
+        UUID postId = UUID.fromString("11111111-1111-1111-1111-111111111111");
+        String postFolderIdBefore = getPostData(postId).get("folder").get("id").asText();
 
         // when
         MvcResult result = mockMvc.perform(patch("/api/post/folder")
@@ -220,6 +234,23 @@ class PostControllerTest {
 
         // then
         assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(postCountBefore).isEqualTo(0);
+        assertThat(getFolderPostCount(member.getUsername(), folderId)).isEqualTo(3);
+        assertThat(postFolderIdBefore).isEqualTo("00000000-0000-0000-0000-000000000000");
+        assertThat(getPostData(postId).get("folder").get("id").asText()).isEqualTo(folderId.toString());
+    }
+
+    private long getFolderPostCount(String username, UUID folderId) throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/folders/" + username))
+                .andReturn();
+        JsonNode folders = objectMapper.readTree(result.getResponse().getContentAsString());
+
+        for (JsonNode folder : folders) {
+            if (folder.get("folderId").asText().equals(folderId.toString())) {
+                return folder.get("postCount").asLong();
+            }
+        }
+        throw new AssertionError("folder not found: " + folderId);
     }
 
     @Test
@@ -295,6 +326,27 @@ class PostControllerTest {
         assertThat(response.getStatus()).isEqualTo(400);
     }
 
+    @ParameterizedTest
+    @NullAndEmptySource
+    @DisplayName("변경할 게시글 id가 없으면 폴더 업데이트에 실패한다.")
+    void updateFolderEmptyPostIds(List<UUID> postIds) throws Exception {
+        // given
+        PostFolderUpdateRequest dto = PostFolderUpdateRequest.builder()
+                .postIds(postIds)
+                .build();
+
+        // when
+        MvcResult result = mockMvc.perform(patch("/api/post/folder")
+                        .header("Authorization", getAuthorization("test@example.com"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andReturn();
+        MockHttpServletResponse response = result.getResponse();
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(400);
+    }
+
     @Test
     @DisplayName("특정 id의 게시글 조회에 성공한다.")
     void getPost() throws Exception {
@@ -313,6 +365,44 @@ class PostControllerTest {
         assertThat(response.getStatus()).isEqualTo(200);
         assertThat(data.get("title").asText()).isEqualTo("test title");
         assertThat(data.get("content").asText()).isEqualTo("test content");
+        assertThat(data.get("viewCount").asLong()).isEqualTo(1);
+        assertThat(getPostData(post.getId()).get("viewCount").asLong()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("게시글이 바뀌지 않았으면 If-None-Match 요청에 304를 응답하고, 수정 이후에는 200을 응답한다.")
+    void getPostNotModified() throws Exception {
+        // given
+        Member member = memberRepository.save(defaultMember("test2@example.com"));
+        Post post = postRepository.save(defaultPost("test title", member, List.of()));
+        String eTag = mockMvc.perform(get("/api/post/" + post.getId())).andReturn().getResponse().getHeader("ETag");
+
+        // when
+        MockHttpServletResponse notModifiedResponse = mockMvc.perform(get("/api/post/" + post.getId())
+                        .header("If-None-Match", eTag))
+                .andReturn().getResponse();
+
+        PostUpdateRequest dto = PostUpdateRequest.builder()
+                .id(post.getId())
+                .title("update title")
+                .content("update content")
+                .urls(List.of())
+                .tagNames(List.of())
+                .build();
+        mockMvc.perform(patch("/api/post")
+                .header("Authorization", getAuthorization("test2@example.com"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)));
+        MockHttpServletResponse modifiedResponse = mockMvc.perform(get("/api/post/" + post.getId())
+                        .header("If-None-Match", eTag))
+                .andReturn().getResponse();
+
+        // then
+        assertThat(eTag).isNotNull();
+        assertThat(notModifiedResponse.getStatus()).isEqualTo(304);
+        assertThat(notModifiedResponse.getContentAsString()).isEmpty();
+        assertThat(modifiedResponse.getStatus()).isEqualTo(200);
+        assertThat(modifiedResponse.getHeader("ETag")).isNotEqualTo(eTag);
     }
 
     @Test
@@ -348,11 +438,76 @@ class PostControllerTest {
         // then
         assertThat(response.getStatus()).isEqualTo(200);
         assertThat(data.get("content").get(0).get("title").asText()).isEqualTo("test title");
-        assertThat(data.get("content").get(0).get("content").asText()).isEqualTo("test content");
+        assertThat(data.get("content").get(0).get("excerpt").asText()).isEqualTo("test content");
+        assertThat(data.get("content").get(0).has("content")).isFalse();
         assertThat(data.get("content").get(0).get("tags").get(0).get("name").asText()).isEqualTo("tag1");
         assertThat(data.get("page").get("size").asInt()).isEqualTo(5);
     }
 
+    @Test
+    @DisplayName("커서 기반으로 최신 게시글부터 다음 페이지를 조회한다.")
+    void getPostsByCursor() throws Exception {
+        // given
+        String size = "size=2";
+
+        // when
+        MvcResult firstResult = mockMvc.perform(get("/api/post/cursor?" + size)).andReturn();
+        JsonNode firstData = objectMapper.readTree(firstResult.getResponse().getContentAsString());
+        String nextCursor = firstData.get("nextCursor").asText();
+
+        MvcResult secondResult = mockMvc.perform(get("/api/post/cursor?" + size + "&cursor=" + nextCursor)).andReturn();
+        JsonNode secondData = objectMapper.readTree(secondResult.getResponse().getContentAsString());
+
+        // then
+        assertThat(firstResult.getResponse().getStatus()).isEqualTo(200);
+        assertThat(firstData.get("content").size()).isEqualTo(2);
+        assertThat(firstData.get("content").get(0).get("title").asText()).isEqualTo("테스트 제목");
+        assertThat(firstData.get("content").get(1).get("title").asText()).isEqualTo("test title2");
+        assertThat(firstData.get("hasNext").asBoolean()).isTrue();
+
+        assertThat(secondResult.getResponse().getStatus()).isEqualTo(200);
+        assertThat(secondData.get("content").size()).isEqualTo(1);
+        assertThat(secondData.get("content").get(0).get("title").asText()).isEqualTo("test title");
+        assertThat(secondData.get("hasNext").asBoolean()).isFalse();
+        assertThat(secondData.get("nextCursor").isNull()).isTrue();
+    }
+
+    @Test
+    @DisplayName("올바르지 않은 커서로 조회 시 실패한다.")
+    void getPostsByCursor2() throws Exception {
+        // when
+        MvcResult result = mockMvc.perform(get("/api/post/cursor?size=2&cursor=invalid")).andReturn();
+        MockHttpServletResponse response = result.getResponse();
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(400);
+    }
+
+    @Test
+    @DisplayName("커서 조회 시 size가 없으면 기본 개수로 조회한다.")
+    void getPostsByCursorDefaultSize() throws Exception {
+        // when
+        MvcResult result = mockMvc.perform(get("/api/post/cursor")).andReturn();
+        JsonNode data = objectMapper.readTree(result.getResponse().getContentAsString());
+
+        // then
+        assertThat(result.getResponse().getStatus()).isEqualTo(200);
+        assertThat(data.get("content").size()).isEqualTo(3);
+        assertThat(data.get("hasNext").asBoolean()).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "-1", "101"})
+    @DisplayName("커서 조회 시 size가 1 이상 100 이하가 아니면 실패한다.")
+    void getPostsByCursorInvalidSize(String size) throws Exception {
+        // when
+        MvcResult result = mockMvc.perform(get("/api/post/cursor?size=" + size)).andReturn();
+        MockHttpServletResponse response = result.getResponse();
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(400);
+    }
+
     @Test
     @DisplayName("올바르지 않은 검색조건으로 검색 시 실패한다.")
     void getPosts2() throws Exception {
@@ -488,6 +643,46 @@ class PostControllerTest {
         assertThat(data.get("content").get(2).get("title").asText()).isEqualTo("test title");
     }
 
+    @Test
+    @DisplayName("회원 게시글 목록이 바뀌지 않았으면 304를 응답하고, 게시글 삭제 이후에는 200을 응답한다.")
+    void getMemberPostsNotModified() throws Exception {
+        // given
+        String url = "/api/post/member?username=test&page=0&size=5";
+        String eTag = mockMvc.perform(get(url)).andReturn().getResponse().getHeader("ETag");
+
+        // when
+        MockHttpServletResponse notModifiedResponse = mockMvc.perform(get(url).header("If-None-Match", eTag))
+                .andReturn().getResponse();
+
+        mockMvc.perform(patch("/api/post/delete/11111111-1111-1111-1111-111111111111")
+                .header("Authorization", getAuthorization("test@example.com")));
+        MockHttpServletResponse modifiedResponse = mockMvc.perform(get(url).header("If-None-Match", eTag))
+                .andReturn().getResponse();
+
+        // then
+        assertThat(eTag).isNotNull();
+        assertThat(notModifiedResponse.getStatus()).isEqualTo(304);
+        assertThat(notModifiedResponse.getContentAsString()).isEmpty();
+        assertThat(modifiedResponse.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("회원 게시글 목록은 ETag로만 비교하고, If-Modified-Since만 보낸 요청에는 목록을 응답한다.")
+    void getMemberPostsIfModifiedSince() throws Exception {
+        // given
+        String url = "/api/post/member?username=test&page=0&size=5";
+
+        // when
+        MockHttpServletResponse response = mockMvc.perform(get(url)
+                        .header("If-Modified-Since", "Fri, 31 Dec 2100 00:00:00 GMT"))
+                .andReturn().getResponse();
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader("Last-Modified")).isNull();
+        assertThat(response.getHeader("ETag")).isNotNull();
+    }
+
     @Test
     @DisplayName("일치하는 username이 없는 경우 에러가 발생한다.")
     void getMemberPosts2() throws Exception {
@@ -596,6 +791,7 @@ class PostControllerTest {
         Tag tag = tagRepository.save(defaultTag("tag"));
         Post post = postRepository.save(defaultPost("test title", member, List.of(tag)));
         PostUpdateRequest dto = PostUpdateRequest.builder().build();
+        mockMvc.perform(get("/api/post/" + post.getId()));
 
         // when
         MvcResult result = mockMvc.perform(patch("/api/post/delete/" + post.getId().toString())
@@ -608,6 +804,8 @@ class PostControllerTest {
 
         // then
         assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(mockMvc.perform(get("/api/post/" + post.getId())).andReturn().getResponse().getStatus())
+                .isEqualTo(400);
     }
 
     @Test
@@ -0,0 +1,65 @@
+package api.store.diglog.model.converter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostContentConverterTest {
+
+    private static final String LONG_CONTENT = "```java\nSystem.out.println(\"코드 블록\");\n```\n".repeat(200);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @DisplayName("threshold보다 긴 본문은 압축해 저장하고, 읽을 때 원본으로 복원한다.")
+    @Test
+    void compress() {
+        // given
+        PostContentConverter converter = new PostContentConverter(meterRegistry, true, 4096);
+
+        // when
+        String column = converter.convertToDatabaseColumn(LONG_CONTENT);
+        String content = converter.convertToEntityAttribute(column);
+
+        // then
+        assertThat(column.length()).isLessThan(LONG_CONTENT.length() / 4);
+        assertThat(content).isEqualTo(LONG_CONTENT);
+        assertThat(meterRegistry.counter("post.content.compression.saved").count()).isPositive();
+        assertThat(meterRegistry.timer("post.content.compression.decode").count()).isEqualTo(1);
+    }
+
+    @DisplayName("비활성화되어 있거나 threshold 이하인 본문은 그대로 저장하고, 이미 압축된 본문은 계속 읽을 수 있다.")
+    @Test
+    void notCompressed() {
+        // given
+        PostContentConverter enabledConverter = new PostContentConverter(meterRegistry, true, 4096);
+        PostContentConverter disabledConverter = new PostContentConverter(meterRegistry, false, 4096);
+        String compressedColumn = enabledConverter.convertToDatabaseColumn(LONG_CONTENT);
+
+        // when
+        String shortColumn = enabledConverter.convertToDatabaseColumn("short content");
+        String disabledColumn = disabledConverter.convertToDatabaseColumn(LONG_CONTENT);
+
+        // then
+        assertThat(shortColumn).isEqualTo("short content");
+        assertThat(disabledColumn).isEqualTo(LONG_CONTENT);
+        assertThat(disabledConverter.convertToEntityAttribute(compressedColumn)).isEqualTo(LONG_CONTENT);
+        assertThat(disabledConverter.convertToEntityAttribute("short content")).isEqualTo("short content");
+    }
+
+    @DisplayName("압축 header로 시작하는 본문은 길이와 관계없이 압축해 원본 그대로 읽는다.")
+    @Test
+    void contentStartingWithHeader() {
+        // given
+        PostContentConverter converter = new PostContentConverter(meterRegistry, false, 4096);
+        String content = "\u00011 not compressed";
+
+        // when
+        String column = converter.convertToDatabaseColumn(content);
+
+        // then
+        assertThat(column).isNotEqualTo(content);
+        assertThat(converter.convertToEntityAttribute(column)).isEqualTo(content);
+    }
+}
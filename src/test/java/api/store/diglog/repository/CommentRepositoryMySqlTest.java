@@ -0,0 +1,88 @@
+package api.store.diglog.repository;
+
+import api.store.diglog.model.constant.Platform;
+import api.store.diglog.model.constant.Role;
+import api.store.diglog.model.entity.Comment;
+import api.store.diglog.model.entity.Member;
+import api.store.diglog.model.entity.Post;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// H2에서 지원하지 않는 MySQL 전용 native query 검증 (Docker가 없으면 건너뜀)
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional
+class CommentRepositoryMySqlTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @DisplayName("답글 수를 삭제되지 않은 답글 수로 다시 계산한다.")
+    @Test
+    void reconcileReplyCounts() {
+        // given
+        Member member = memberRepository.save(Member.builder()
+                .email("mysql@example.com")
+                .username("mysql")
+                .password("password")
+                .roles(Set.of(Role.ROLE_USER))
+                .platform(Platform.SERVER)
+                .build());
+        Post post = postRepository.save(Post.builder()
+                .member(member)
+                .title("test title")
+                .content("test content")
+                .tags(List.of())
+                .build());
+        Comment parent = commentRepository.save(comment(member, post, null, false, 5));
+        Comment noReply = commentRepository.save(comment(member, post, null, false, 3));
+        commentRepository.save(comment(member, post, parent, false, 0));
+        commentRepository.save(comment(member, post, parent, false, 0));
+        commentRepository.save(comment(member, post, parent, true, 0));
+        entityManager.flush();
+
+        // when
+        commentRepository.reconcileReplyCounts();
+        entityManager.clear();
+
+        // then
+        assertThat(commentRepository.findById(parent.getId()).orElseThrow().getReplyCount()).isEqualTo(2);
+        assertThat(commentRepository.findById(noReply.getId()).orElseThrow().getReplyCount()).isZero();
+    }
+
+    private Comment comment(Member member, Post post, Comment parentComment, boolean isDeleted, int replyCount) {
+        return Comment.builder()
+                .post(post)
+                .member(member)
+                .parentComment(parentComment)
+                .content("content")
+                .isDeleted(isDeleted)
+                .replyCount(replyCount)
+                .build();
+    }
+}
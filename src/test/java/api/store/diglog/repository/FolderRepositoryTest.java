@@ -114,11 +114,11 @@ class FolderRepositoryTest {
 		// then
 		assertThat(folderPostCountResponses)
 			.hasSize(3)
-			.extracting("folderId", "title", "depth", "orderIndex", "parentFolderId", "postCount")
+			.extracting("folderId", "title", "depth", "orderIndex", "parentFolderId", "postCount", "subtreePostCount")
 			.containsExactly(
-				tuple(folder01.getId(), "test01", 0, 0, null, 2L),
-				tuple(folder02.getId(), "test02", 1, 1, folder01.getId(), 1L),
-				tuple(folder03.getId(), "test03", 2, 2, folder02.getId(), 0L)
+				tuple(folder01.getId(), "test01", 0, 0, null, 2L, 3L),
+				tuple(folder02.getId(), "test02", 1, 1, folder01.getId(), 1L, 1L),
+				tuple(folder03.getId(), "test03", 2, 2, folder02.getId(), 0L, 0L)
 			);
 
 	}
@@ -194,4 +194,77 @@ class FolderRepositoryTest {
 			.contains(folder02, folder04, folder05);
 
 	}
-}
\ No newline at end of file
+
+	@DisplayName("path 접두사 목록을 이용해 폴더와 모든 하위 폴더를 조회할 수 있다.")
+	@Test
+	void findAllByMemberIdAndPathStartingWithAny() {
+		// given
+		Member member = Member.builder()
+			.email("frod@gmail.com")
+			.username("frod")
+			.password("testPassword")
+			.roles(Set.of(Role.ROLE_USER))
+			.platform(Platform.SERVER)
+			.build();
+
+		memberRepository.save(member);
+		entityManager.flush();
+
+		Folder folder01 = Folder.builder()
+			.id(UUID.randomUUID())
+			.member(member)
+			.title("프로젝트 A")
+			.depth(0)
+			.orderIndex(0)
+			.parentFolder(null)
+			.build();
+		Folder folder02 = Folder.builder()
+			.id(UUID.randomUUID())
+			.member(member)
+			.title("DB")
+			.depth(1)
+			.orderIndex(1)
+			.parentFolder(folder01)
+			.build();
+		Folder folder03 = Folder.builder()
+			.id(UUID.randomUUID())
+			.member(member)
+			.title("MySQL")
+			.depth(2)
+			.orderIndex(2)
+			.parentFolder(folder02)
+			.build();
+		Folder folder04 = Folder.builder()
+			.id(UUID.randomUUID())
+			.member(member)
+			.title("프로젝트 B")
+			.depth(0)
+			.orderIndex(3)
+			.parentFolder(null)
+			.build();
+		Folder folder05 = Folder.builder()
+			.id(UUID.randomUUID())
+			.member(member)
+			.title("Spring")
+			.depth(1)
+			.orderIndex(4)
+			.parentFolder(folder04)
+			.build();
+
+		folderRepository.saveAll(List.of(folder01, folder02, folder03, folder04, folder05));
+		entityManager.flush();
+
+		// when
+		List<Folder> folders = folderRepository.findAllByMemberIdAndPathStartingWithAny(member.getId(),
+			List.of(folder02.getPath()));
+		List<Folder> otherMemberFolders = folderRepository.findAllByMemberIdAndPathStartingWithAny(UUID.randomUUID(),
+			List.of(folder01.getPath()));
+
+		// then
+		assertThat(folder03.getPath())
+			.isEqualTo("/" + folder01.getId() + "/" + folder02.getId() + "/" + folder03.getId() + "/");
+		assertThat(folders).hasSize(2)
+			.contains(folder02, folder03);
+		assertThat(otherMemberFolders).isEmpty();
+	}
+}
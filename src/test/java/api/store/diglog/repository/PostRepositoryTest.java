@@ -3,14 +3,20 @@ package api.store.diglog.repository;
 import static org.assertj.core.api.Assertions.*;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,9 +25,12 @@ import api.store.diglog.model.constant.Role;
 import api.store.diglog.model.entity.Folder;
 import api.store.diglog.model.entity.Member;
 import api.store.diglog.model.entity.Post;
+import api.store.diglog.model.entity.Tag;
+import api.store.diglog.model.vo.post.PostSummaryVO;
+import api.store.diglog.model.vo.tag.PostTagVO;
 import jakarta.persistence.EntityManager;
 
-@SpringBootTest
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @ActiveProfiles("test")
 @Transactional
 class PostRepositoryTest {
@@ -35,6 +44,9 @@ class PostRepositoryTest {
 	@Autowired
 	PostRepository postRepository;
 
+	@Autowired
+	TagRepository tagRepository;
+
 	@Autowired
 	EntityManager entityManager;
 
@@ -114,4 +126,211 @@ class PostRepositoryTest {
 
 	}
 
-}
\ No newline at end of file
+	@DisplayName("게시글 목록 조회 시 페이지 크기와 관계없이 실행되는 쿼리 수가 일정하다.")
+	@Test
+	void findSummariesByIsDeletedFalseStatementCount() {
+
+		// given
+		Member member = Member.builder()
+			.email("frod@gmail.com")
+			.username("frod")
+			.password("testPassword")
+			.roles(Set.of(Role.ROLE_USER))
+			.platform(Platform.SERVER)
+			.build();
+		memberRepository.save(member);
+
+		Folder folder = Folder.builder()
+			.id(UUID.randomUUID())
+			.member(member)
+			.title("프로젝트 A")
+			.depth(0)
+			.orderIndex(0)
+			.parentFolder(null)
+			.build();
+		folderRepository.save(folder);
+		entityManager.flush();
+
+		List<Tag> tags = tagRepository.saveAll(List.of(
+			Tag.builder().name("java").build(),
+			Tag.builder().name("spring").build()
+		));
+
+		for (int i = 0; i < 30; i++) {
+			postRepository.save(Post.builder()
+				.member(member)
+				.folder(folder)
+				.tags(tags)
+				.title("게시글 " + i)
+				.content("게시글 내용 " + i)
+				.isDeleted(false)
+				.build());
+		}
+		entityManager.flush();
+
+		// when
+		long smallPageStatementCount = countStatementsOfPage(5);
+		long largePageStatementCount = countStatementsOfPage(20);
+
+		// then
+		assertThat(smallPageStatementCount).isEqualTo(largePageStatementCount);
+		assertThat(largePageStatementCount).isLessThanOrEqualTo(3);
+	}
+
+	@DisplayName("회원 본인 게시글의 폴더를 한 번의 UPDATE로 변경하고 변경된 게시글 수를 반환한다.")
+	@Test
+	void updateFolderByIdInAndMemberId() {
+
+		// given
+		Member member = memberRepository.save(Member.builder()
+			.email("frod@gmail.com")
+			.username("frod")
+			.password("testPassword")
+			.roles(Set.of(Role.ROLE_USER))
+			.platform(Platform.SERVER)
+			.build());
+		Member otherMember = memberRepository.save(Member.builder()
+			.email("other@gmail.com")
+			.username("other")
+			.password("testPassword")
+			.roles(Set.of(Role.ROLE_USER))
+			.platform(Platform.SERVER)
+			.build());
+
+		Folder folder = folderRepository.save(Folder.builder()
+			.id(UUID.randomUUID())
+			.member(member)
+			.title("프로젝트 A")
+			.depth(0)
+			.orderIndex(0)
+			.parentFolder(null)
+			.build());
+
+		List<Post> posts = postRepository.saveAll(IntStream.range(0, 20)
+			.mapToObj(i -> Post.builder()
+				.member(member)
+				.title("게시글 " + i)
+				.content("게시글 내용 " + i)
+				.isDeleted(false)
+				.build())
+			.toList());
+		Post otherPost = postRepository.save(Post.builder()
+			.member(otherMember)
+			.title("다른 회원 게시글")
+			.content("내용")
+			.isDeleted(false)
+			.build());
+		entityManager.flush();
+		entityManager.clear();
+
+		List<UUID> postIds = new ArrayList<>(posts.stream().map(Post::getId).toList());
+		postIds.add(otherPost.getId());
+
+		Statistics statistics = entityManager.getEntityManagerFactory()
+			.unwrap(SessionFactory.class)
+			.getStatistics();
+		statistics.clear();
+
+		// when
+		int updatedRows = postRepository.updateFolderByIdInAndMemberId(postIds, member.getId(), folder,
+			LocalDateTime.now());
+
+		// then
+		assertThat(updatedRows).isEqualTo(20);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(postRepository.findAllByFolderIdIn(List.of(folder.getId()))).hasSize(20);
+		assertThat(postRepository.findById(otherPost.getId()).get().getFolder()).isNull();
+	}
+
+	@DisplayName("폴더 id 목록으로 해당 폴더들의 게시글 목록을 조회할 수 있다.")
+	@Test
+	void findSummariesByMemberIdAndFolderIdIn() {
+
+		// given
+		Member member = memberRepository.save(Member.builder()
+			.email("frod@gmail.com")
+			.username("frod")
+			.password("testPassword")
+			.roles(Set.of(Role.ROLE_USER))
+			.platform(Platform.SERVER)
+			.build());
+
+		Folder folder01 = Folder.builder()
+			.id(UUID.randomUUID())
+			.member(member)
+			.title("프로젝트 A")
+			.depth(0)
+			.orderIndex(0)
+			.parentFolder(null)
+			.build();
+		Folder folder02 = Folder.builder()
+			.id(UUID.randomUUID())
+			.member(member)
+			.title("DB")
+			.depth(1)
+			.orderIndex(1)
+			.parentFolder(folder01)
+			.build();
+		Folder folder03 = Folder.builder()
+			.id(UUID.randomUUID())
+			.member(member)
+			.title("MySQL")
+			.depth(2)
+			.orderIndex(2)
+			.parentFolder(folder02)
+			.build();
+		Folder folder04 = Folder.builder()
+			.id(UUID.randomUUID())
+			.member(member)
+			.title("프로젝트 B")
+			.depth(0)
+			.orderIndex(3)
+			.parentFolder(null)
+			.build();
+		folderRepository.saveAll(List.of(folder01, folder02, folder03, folder04));
+		entityManager.flush();
+
+		List<Post> posts = postRepository.saveAll(List.of(folder01, folder02, folder03, folder04).stream()
+			.map(folder -> Post.builder()
+				.member(member)
+				.folder(folder)
+				.title(folder.getTitle() + " 게시글")
+				.content("내용")
+				.isDeleted(false)
+				.build())
+			.toList());
+		entityManager.flush();
+
+		// when
+		List<UUID> postIds = postRepository.findSummariesByMemberIdAndFolderIdIn(member.getId(),
+				List.of(folder02.getId(), folder03.getId()), PageRequest.of(0, 10, Sort.by("createdAt", "id").descending()))
+			.map(PostSummaryVO::getId)
+			.getContent();
+		long rootSubtreeCount = postRepository.findSummariesByMemberIdAndFolderIdIn(member.getId(),
+				List.of(folder01.getId(), folder02.getId(), folder03.getId()), PageRequest.of(0, 10))
+			.getTotalElements();
+
+		// then
+		assertThat(postIds).containsExactlyInAnyOrder(posts.get(1).getId(), posts.get(2).getId());
+		assertThat(rootSubtreeCount).isEqualTo(3);
+	}
+
+	private long countStatementsOfPage(int size) {
+		entityManager.clear();
+		Statistics statistics = entityManager.getEntityManagerFactory()
+			.unwrap(SessionFactory.class)
+			.getStatistics();
+		statistics.clear();
+
+		List<UUID> postIds = postRepository.findSummariesByIsDeletedFalse(
+				PageRequest.of(0, size, Sort.by("createdAt", "id").descending()))
+			.map(PostSummaryVO::getId)
+			.getContent();
+		List<PostTagVO> postTags = postRepository.findAllTagsByPostIdIn(postIds);
+
+		assertThat(postIds).hasSize(size);
+		assertThat(postTags).hasSize(size * 2);
+
+		return statistics.getPrepareStatementCount();
+	}
+}
@@ -0,0 +1,43 @@
+package api.store.diglog.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+// reply_count 집계 쿼리는 MySQL 전용이므로 (CommentRepositoryMySqlTest) 여기서는 property 조건과 호출 연결만 확인
+class CommentReplyCountReconcilerTest {
+
+    private final CommentService commentService = mock(CommentService.class);
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withBean(CommentService.class, () -> commentService)
+            .withUserConfiguration(CommentReplyCountReconciler.class);
+
+    @DisplayName("comment.reply-count.reconcile=true이면 시작 시 reply_count를 다시 집계한다.")
+    @Test
+    void run() {
+        // given
+        given(commentService.reconcileReplyCounts()).willReturn(2);
+
+        contextRunner.withPropertyValues("comment.reply-count.reconcile=true")
+                .run(context -> {
+                    // when
+                    context.getBean(CommentReplyCountReconciler.class).run(new DefaultApplicationArguments());
+
+                    // then
+                    verify(commentService).reconcileReplyCounts();
+                });
+    }
+
+    @DisplayName("comment.reply-count.reconcile이 없으면 reconciler를 등록하지 않는다.")
+    @Test
+    void disabled() {
+        contextRunner.run(context -> assertThat(context).doesNotHaveBean(CommentReplyCountReconciler.class));
+    }
+}
@@ -2,6 +2,7 @@ package api.store.diglog.service;
 
 import api.store.diglog.common.exception.CustomException;
 import api.store.diglog.model.dto.comment.CommentListRequest;
+import api.store.diglog.model.dto.comment.CommentMember;
 import api.store.diglog.model.dto.comment.CommentRequest;
 import api.store.diglog.model.dto.comment.CommentResponse;
 import api.store.diglog.model.dto.comment.CommentUpdateRequest;
@@ -16,14 +17,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
@@ -86,6 +92,33 @@ class CommentServiceTest {
             verify(commentRepository, times(1)).save(any(Comment.class));
         }
 
+        @Test
+        @DisplayName("답글 생성 시 부모 댓글의 답글 수를 증가시킨다.")
+        void incrementReplyCount() {
+            // given
+            CommentRequest dto = CommentRequest.builder()
+                    .postId(POST_ID)
+                    .content(CONTENT)
+                    .parentCommentId(PARENT_COMMENT_ID)
+                    .build();
+
+            when(memberService.getCurrentMember()).thenReturn(Member.builder()
+                    .email(EMAIL)
+                    .username(USERNAME)
+                    .build());
+            when(commentRepository.findByIdAndIsDeletedFalse(PARENT_COMMENT_ID)).thenReturn(Optional.of(Comment.builder()
+                    .id(PARENT_COMMENT_ID)
+                    .build()));
+            when(commentRepository.getDepthByParentCommentId(PARENT_COMMENT_ID, MAX_DEPTH)).thenReturn(0);
+
+            // when
+            commentService.save(dto);
+
+            // then
+            verify(commentRepository, times(1)).save(any(Comment.class));
+            verify(commentRepository, times(1)).incrementReplyCount(PARENT_COMMENT_ID);
+        }
+
         static Stream<Arguments> provideSuccess() {
             return Stream.of(
                     Arguments.of(null, 0),
@@ -142,6 +175,7 @@ class CommentServiceTest {
         private static final String CONTENT = "test content";
         private static final Pageable PAGEABLE = PageRequest.of(PAGE, SIZE, Sort.by("createdAt"));
         private static final int SELECT_SIZE = 2;
+        private static final int REPLY_COUNT = 3;
         private static final String EMAIL = "test1@example.com";
         private static final String USERNAME = "test1";
 
@@ -157,7 +191,7 @@ class CommentServiceTest {
                     .parentCommentId(parentCommentId)
                     .build();
 
-            when(memberService.findMemberById(any(UUID.class))).thenReturn(getMember(EMAIL, USERNAME));
+            when(memberService.getCommentMembers(anyCollection())).thenAnswer(invocation -> getCommentMembers(invocation.getArgument(0)));
             lenient().when(commentRepository.findByPostIdAndParentCommentIdAndIsDeletedFalse(POST_ID, parentCommentId, PAGEABLE)).thenReturn(selectResult);
 
             // when
@@ -177,6 +211,47 @@ class CommentServiceTest {
             );
         }
 
+        @ParameterizedTest
+        @ValueSource(ints = {1, 5, 20})
+        @DisplayName("댓글 수와 관계없이 작성자, 프로필 이미지를 한 번씩만 조회하고 답글 수는 별도로 조회하지 않는다.")
+        void batchLoad(int commentCount) {
+            // given
+            Pageable pageable = PageRequest.of(PAGE, commentCount, Sort.by("createdAt"));
+            CommentListRequest dto = CommentListRequest.builder()
+                    .postId(POST_ID)
+                    .page(PAGE)
+                    .size(commentCount)
+                    .build();
+
+            List<Comment> comments = Stream.generate(() -> getComment(getMember(EMAIL, USERNAME), null))
+                    .limit(commentCount)
+                    .toList();
+
+            when(commentRepository.findByPostIdAndParentCommentIdAndIsDeletedFalse(POST_ID, null, pageable))
+                    .thenReturn(new PageImpl<>(comments, pageable, commentCount));
+            when(memberService.getCommentMembers(anyCollection())).thenAnswer(invocation -> getCommentMembers(invocation.getArgument(0)));
+
+            // when
+            Page<CommentResponse> response = commentService.getComments(dto);
+
+            // then
+            assertThat(response.getContent().size()).isEqualTo(commentCount);
+            assertThat(response.getContent().getFirst().getReplyCount()).isEqualTo(REPLY_COUNT);
+            assertThat(response.getContent().getLast().getMember().getUsername()).isEqualTo(USERNAME);
+
+            verify(memberService, times(1)).getCommentMembers(anyCollection());
+            verify(memberService, never()).findMemberById(any(UUID.class));
+            verify(commentRepository, times(1)).findByPostIdAndParentCommentIdAndIsDeletedFalse(POST_ID, null, pageable);
+            verifyNoMoreInteractions(commentRepository);
+        }
+
+        private static Map<UUID, CommentMember> getCommentMembers(Collection<UUID> memberIds) {
+            return memberIds.stream()
+                    .collect(Collectors.toMap(Function.identity(), memberId -> CommentMember.builder()
+                            .username(USERNAME)
+                            .build()));
+        }
+
         private static Page<Comment> getPageComments(UUID parentCommentId) {
             return new PageImpl<>(List.of(
                     getComment(getMember(EMAIL, USERNAME), parentCommentId),
@@ -192,6 +267,7 @@ class CommentServiceTest {
                     .content(CONTENT)
                     .taggedMember(member)
                     .isDeleted(false)
+                    .replyCount(REPLY_COUNT)
                     .build();
         }
 
@@ -317,6 +393,23 @@ class CommentServiceTest {
             // then
             assertThat(throwable).isNull();
             verify(commentRepository, times(1)).updateIsDeletedByCommentIdAndMemberId(any(UUID.class), any(UUID.class));
+            verify(commentRepository, never()).decrementReplyCount(any(UUID.class));
+        }
+
+        @Test
+        @DisplayName("답글 삭제 시 부모 댓글의 답글 수를 감소시킨다.")
+        void decrementReplyCount() {
+            // given
+            UUID parentCommentId = UUID.randomUUID();
+            when(memberService.getCurrentMember()).thenReturn(Member.builder().id(MEMBER_ID).build());
+            when(commentRepository.updateIsDeletedByCommentIdAndMemberId(COMMENT_ID, MEMBER_ID)).thenReturn(1);
+            when(commentRepository.findParentCommentIdById(COMMENT_ID)).thenReturn(Optional.of(parentCommentId));
+
+            // when
+            commentService.delete(COMMENT_ID);
+
+            // then
+            verify(commentRepository, times(1)).decrementReplyCount(parentCommentId);
         }
 
         @ParameterizedTest
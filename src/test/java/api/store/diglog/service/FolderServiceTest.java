@@ -153,6 +153,43 @@ class FolderServiceTest {
 
 	}
 
+	@DisplayName("게시글 개수가 포함된 폴더 목록은 무효화 전까지 캐시된 값을 반환한다.")
+	@Test
+	void getFoldersWithPostCountCached() {
+
+		// given
+		Member member = memberRepository.findByUsername("testUser").get();
+
+		Folder folder = Folder.builder()
+			.id(UUID.randomUUID())
+			.member(member)
+			.title("test01")
+			.depth(0)
+			.orderIndex(0)
+			.parentFolder(null)
+			.build();
+		folderRepository.save(folder);
+		entityManager.flush();
+
+		BDDMockito.given(memberService.findActiveMemberByUsername(any()))
+			.willReturn(member);
+		folderService.getFoldersWithPostCount(member.getUsername());
+
+		postRepository.save(Post.builder()
+			.member(member)
+			.folder(folder)
+			.title("title01")
+			.content("content01")
+			.build());
+		entityManager.flush();
+
+		// when
+		List<FolderPostCountResponse> cached = folderService.getFoldersWithPostCount(member.getUsername());
+
+		// then
+		assertThat(cached).extracting("postCount").containsExactly(0L);
+	}
+
 	@DisplayName("새로운 폴더 목록을 생성할 수 있다.")
 	@Test
 	void createAndUpdateFolders_WithNewFolders() {
@@ -599,4 +636,106 @@ class FolderServiceTest {
 			.hasMessage("로그인 중인 회원 정보와 폴더 회원 정보가 일치하지 않습니다.");
 	}
 
-}
\ No newline at end of file
+	@DisplayName("폴더 id 목록으로 해당 폴더와 모든 하위 폴더의 id를 조회할 수 있다.")
+	@Test
+	void getSubtreeFolderIds() {
+
+		// given
+		Member member = memberService.getCurrentMember();
+
+		Folder folder01 = Folder.builder()
+			.id(UUID.randomUUID())
+			.member(member)
+			.title("프로젝트 A")
+			.depth(0)
+			.orderIndex(0)
+			.parentFolder(null)
+			.build();
+		Folder folder02 = Folder.builder()
+			.id(UUID.randomUUID())
+			.member(member)
+			.title("DB")
+			.depth(1)
+			.orderIndex(1)
+			.parentFolder(folder01)
+			.build();
+		Folder folder03 = Folder.builder()
+			.id(UUID.randomUUID())
+			.member(member)
+			.title("MySQL")
+			.depth(2)
+			.orderIndex(2)
+			.parentFolder(folder02)
+			.build();
+		Folder folder04 = Folder.builder()
+			.id(UUID.randomUUID())
+			.member(member)
+			.title("프로젝트 B")
+			.depth(0)
+			.orderIndex(3)
+			.parentFolder(null)
+			.build();
+
+		folderRepository.saveAll(List.of(folder01, folder02, folder03, folder04));
+		entityManager.flush();
+
+		// when
+		List<UUID> folderIds = folderService.getSubtreeFolderIds(member.getId(),
+			List.of(folder02.getId(), folder03.getId(), UUID.randomUUID()));
+		List<UUID> otherMemberFolderIds = folderService.getSubtreeFolderIds(UUID.randomUUID(),
+			List.of(folder01.getId()));
+
+		// then
+		assertThat(folderIds).containsExactlyInAnyOrder(folder02.getId(), folder03.getId());
+		assertThat(otherMemberFolderIds).isEmpty();
+	}
+
+	@DisplayName("path가 비어 있는 기존 폴더는 부모 폴더부터 path를 채운다.")
+	@Test
+	void migratePaths() {
+
+		// given
+		Member member = memberService.getCurrentMember();
+
+		Folder folder01 = Folder.builder()
+			.id(UUID.randomUUID())
+			.member(member)
+			.title("프로젝트 A")
+			.depth(0)
+			.orderIndex(0)
+			.parentFolder(null)
+			.build();
+		Folder folder02 = Folder.builder()
+			.id(UUID.randomUUID())
+			.member(member)
+			.title("DB")
+			.depth(1)
+			.orderIndex(1)
+			.parentFolder(folder01)
+			.build();
+		Folder folder03 = Folder.builder()
+			.id(UUID.randomUUID())
+			.member(member)
+			.title("MySQL")
+			.depth(2)
+			.orderIndex(2)
+			.parentFolder(folder02)
+			.build();
+
+		folderRepository.saveAll(List.of(folder01, folder02, folder03));
+		entityManager.flush();
+		entityManager.createNativeQuery("UPDATE folder SET path = NULL").executeUpdate();
+		entityManager.clear();
+
+		// when
+		int migrated = folderService.migratePaths();
+		entityManager.flush();
+		entityManager.clear();
+
+		// then
+		assertThat(migrated).isEqualTo(3);
+		assertThat(folderRepository.findById(folder03.getId()).get().getPath())
+			.isEqualTo("/" + folder01.getId() + "/" + folder02.getId() + "/" + folder03.getId() + "/");
+	}
+
+}
@@ -0,0 +1,183 @@
+package api.store.diglog.service;
+
+import api.store.diglog.common.config.CacheConfig;
+import api.store.diglog.common.util.S3Util;
+import api.store.diglog.model.entity.Image;
+import api.store.diglog.model.entity.ImageDeleteOutbox;
+import api.store.diglog.model.entity.ImageVariant;
+import api.store.diglog.model.vo.image.ImageSaveVO;
+import api.store.diglog.model.vo.image.ImageUrlVO;
+import api.store.diglog.repository.ImageDeleteOutboxRepository;
+import api.store.diglog.repository.ImageRepository;
+import api.store.diglog.repository.ImageVariantRepository;
+import api.store.diglog.service.image.ImageVariantGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ImageServiceTest {
+
+    private static final String URL = "https://test-bucket.s3.ap-northeast-2.amazonaws.com/diglog/profile.png";
+    private static final String THUMBNAIL_URL = "https://test-bucket.s3.ap-northeast-2.amazonaws.com/diglog/profile.png_w160.jpg";
+    private static final String UPDATED_URL = "https://test-bucket.s3.ap-northeast-2.amazonaws.com/diglog/profile2.png";
+
+    @MockitoBean
+    private ImageRepository imageRepository;
+    @MockitoBean
+    private S3Util s3Util;
+    @MockitoBean
+    private ImageVariantGenerator imageVariantGenerator;
+    @MockitoBean
+    private ImageDeleteOutboxRepository imageDeleteOutboxRepository;
+
+    @Autowired
+    private ImageService imageService;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private ImageVariantRepository imageVariantRepository;
+
+    @BeforeEach
+    void beforeEach() {
+        cacheManager.getCache(CacheConfig.PROFILE_URL).clear();
+        imageVariantRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("같은 refId의 프로필 이미지 url은 한 번만 조회한다.")
+    void getUrlByRefId() {
+        // given
+        UUID refId = UUID.randomUUID();
+        when(imageRepository.findByRefId(refId)).thenReturn(List.of(getImage(refId, URL)));
+
+        // when
+        String url1 = imageService.getUrlByRefId(refId).getUrl();
+        String url2 = imageService.getUrlByRefId(refId).getUrl();
+
+        // then
+        assertThat(url1).isEqualTo(URL);
+        assertThat(url2).isEqualTo(URL);
+        verify(imageRepository, times(1)).findByRefId(refId);
+    }
+
+    @Test
+    @DisplayName("프로필 이미지를 변경하면 캐시가 무효화된다.")
+    void uploadAndSaveImage() {
+        // given
+        UUID refId = UUID.randomUUID();
+        when(imageRepository.findByRefId(refId))
+                .thenReturn(List.of(getImage(refId, URL)))
+                .thenReturn(List.of(getImage(refId, UPDATED_URL)));
+        when(imageRepository.deleteAllByRefId(refId)).thenReturn(List.of(getImage(refId, URL)));
+        when(s3Util.uploadImage(any())).thenReturn(UPDATED_URL);
+        imageService.getUrlByRefId(refId);
+
+        // when
+        imageService.uploadAndSaveImage(ImageSaveVO.builder()
+                .refId(refId)
+                .file(new MockMultipartFile("file", "profile2.png", "image/png", new byte[]{1}))
+                .build());
+
+        // then
+        assertThat(imageService.getUrlByRefId(refId).getUrl()).isEqualTo(UPDATED_URL);
+        verify(imageRepository, times(2)).findByRefId(refId);
+        verify(imageVariantGenerator).submit(UPDATED_URL, refId);
+        verify(imageDeleteOutboxRepository).saveAll(argThat(outboxes -> ((List<ImageDeleteOutbox>) outboxes).stream()
+                .map(ImageDeleteOutbox::getUrl)
+                .toList()
+                .equals(List.of(URL))));
+        verify(s3Util, never()).deleteImages(any());
+    }
+
+    @Test
+    @DisplayName("이미지 저장과 업로드 이미지 정리가 모두 실패하면 저장 예외를 던진다.")
+    void uploadAndSaveImageCleanupFail() {
+        // given
+        UUID refId = UUID.randomUUID();
+        RuntimeException saveException = new RuntimeException("save");
+        RuntimeException cleanupException = new RuntimeException("cleanup");
+        when(s3Util.uploadImage(any())).thenReturn(UPDATED_URL);
+        when(imageRepository.save(any())).thenThrow(saveException);
+        when(imageDeleteOutboxRepository.saveAll(any())).thenThrow(cleanupException);
+
+        // when, then
+        assertThatThrownBy(() -> imageService.uploadAndSaveImage(ImageSaveVO.builder()
+                .refId(refId)
+                .file(new MockMultipartFile("file", "profile2.png", "image/png", new byte[]{1}))
+                .build()))
+                .isSameAs(saveException)
+                .hasSuppressedException(cleanupException);
+        verify(imageVariantGenerator, never()).submit(any(), any());
+    }
+
+    @Test
+    @DisplayName("썸네일이 있으면 썸네일 url을, 없으면 원본 url을 반환한다.")
+    void getThumbnailUrl() {
+        // given
+        UUID refId = UUID.randomUUID();
+        UUID noVariantRefId = UUID.randomUUID();
+        when(imageRepository.findByRefId(refId)).thenReturn(List.of(getImage(refId, URL)));
+        when(imageRepository.findByRefId(noVariantRefId)).thenReturn(List.of(getImage(noVariantRefId, UPDATED_URL)));
+        imageVariantRepository.save(ImageVariant.builder()
+                .sourceUrl(URL)
+                .width(160)
+                .url(THUMBNAIL_URL)
+                .build());
+
+        // when
+        ImageUrlVO imageUrlVO = imageService.getUrlByRefId(refId);
+        ImageUrlVO noVariantImageUrlVO = imageService.getUrlByRefId(noVariantRefId);
+
+        // then
+        assertThat(imageUrlVO.getThumbnailUrl()).isEqualTo(THUMBNAIL_URL);
+        assertThat(noVariantImageUrlVO.getThumbnailUrl()).isEqualTo(UPDATED_URL);
+    }
+
+    @Test
+    @DisplayName("여러 refId 조회 시 캐시에 없는 refId만 조회한다.")
+    void getUrlsByRefIds() {
+        // given
+        UUID cachedRefId = UUID.randomUUID();
+        UUID refId = UUID.randomUUID();
+        UUID emptyRefId = UUID.randomUUID();
+        when(imageRepository.findByRefId(cachedRefId)).thenReturn(List.of(getImage(cachedRefId, URL)));
+        when(imageRepository.findByRefIdIn(List.of(refId, emptyRefId))).thenReturn(List.of(getImage(refId, UPDATED_URL)));
+        imageService.getUrlByRefId(cachedRefId);
+
+        // when
+        Map<UUID, ImageUrlVO> urls1 = imageService.getUrlsByRefIds(List.of(cachedRefId, refId, emptyRefId));
+        Map<UUID, ImageUrlVO> urls2 = imageService.getUrlsByRefIds(List.of(cachedRefId, refId, emptyRefId));
+
+        // then
+        assertThat(urls1).containsOnlyKeys(cachedRefId, refId);
+        assertThat(urls1.get(cachedRefId).getUrl()).isEqualTo(URL);
+        assertThat(urls1.get(refId).getUrl()).isEqualTo(UPDATED_URL);
+        assertThat(urls2).isEqualTo(urls1);
+        verify(imageRepository, times(1)).findByRefIdIn(any());
+    }
+
+    private Image getImage(UUID refId, String url) {
+        return Image.builder()
+                .refId(refId)
+                .url(url)
+                .build();
+    }
+}
@@ -0,0 +1,127 @@
+package api.store.diglog.service;
+
+import api.store.diglog.common.auth.CurrentMemberIdResolver;
+import api.store.diglog.model.constant.Role;
+import api.store.diglog.model.dto.member.MemberUsernameRequest;
+import api.store.diglog.model.entity.Member;
+import api.store.diglog.repository.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class MemberServiceTest {
+
+    private static final String EMAIL = "test1@example.com";
+    private static final String USERNAME = "test1";
+    private static final String UPDATED_USERNAME = "test2";
+
+    @MockitoBean
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MemberService memberService;
+
+    @BeforeEach
+    void beforeEach() {
+        SimpleGrantedAuthority authority = new SimpleGrantedAuthority(Role.ROLE_USER.name());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(EMAIL, "", List.of(authority)));
+    }
+
+    @AfterEach
+    void afterEach() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("요청 간에 현재 회원 id를 캐시에서 재사용하고, 회원은 현재 트랜잭션의 참조로 반환한다.")
+    void getCurrentMember() {
+        // given
+        Member member = getMember(USERNAME);
+        when(memberRepository.findIdByEmail(EMAIL)).thenReturn(Optional.of(member.getId()));
+        when(memberRepository.getReferenceById(member.getId())).thenReturn(member);
+
+        // when
+        Member member1 = memberService.getCurrentMember();
+        Member member2 = memberService.getCurrentMember();
+
+        // then
+        assertThat(member1.getId()).isEqualTo(member.getId());
+        assertThat(member2.getId()).isEqualTo(member.getId());
+        verify(memberRepository, times(1)).findIdByEmail(EMAIL);
+        verify(memberRepository, times(2)).getReferenceById(member.getId());
+        verify(memberRepository, never()).findByEmail(EMAIL);
+    }
+
+    @Test
+    @DisplayName("JWTFilter에서 조회한 회원 id가 있으면 다시 조회하지 않는다.")
+    void getCurrentMember2() {
+        // given
+        Member member = getMember(USERNAME);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(CurrentMemberIdResolver.CURRENT_MEMBER_ID_ATTRIBUTE, member.getId());
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        when(memberRepository.getReferenceById(member.getId())).thenReturn(member);
+
+        // when
+        Member currentMember = memberService.getCurrentMember();
+
+        // then
+        assertThat(currentMember).isSameAs(member);
+        verify(memberRepository, never()).findIdByEmail(EMAIL);
+    }
+
+    @Test
+    @DisplayName("회원명을 변경해도 캐시된 값 없이 변경된 회원을 조회한다.")
+    void updateUsername() {
+        // given
+        Member member = getMember(USERNAME);
+        when(memberRepository.findIdByEmail(EMAIL)).thenReturn(Optional.of(member.getId()));
+        when(memberRepository.getReferenceById(member.getId()))
+                .thenReturn(member)
+                .thenReturn(getMember(member.getId(), UPDATED_USERNAME));
+        memberService.getCurrentMember();
+
+        // when
+        memberService.updateUsername(MemberUsernameRequest.builder().username(UPDATED_USERNAME).build());
+
+        // then
+        assertThat(memberService.getCurrentMember().getUsername()).isEqualTo(UPDATED_USERNAME);
+        verify(memberRepository, times(1)).findIdByEmail(EMAIL);
+    }
+
+    private Member getMember(String username) {
+        return getMember(UUID.randomUUID(), username);
+    }
+
+    private Member getMember(UUID id, String username) {
+        return Member.builder()
+                .id(id)
+                .email(EMAIL)
+                .username(username)
+                .roles(Set.of(Role.ROLE_USER))
+                .build();
+    }
+}
@@ -0,0 +1,177 @@
+package api.store.diglog.service;
+
+import api.store.diglog.common.util.CompressionUtil;
+import api.store.diglog.model.constant.Platform;
+import api.store.diglog.model.constant.Role;
+import api.store.diglog.model.converter.PostContentConverter;
+import api.store.diglog.model.entity.Member;
+import api.store.diglog.model.entity.Post;
+import api.store.diglog.model.vo.post.PostContentVO;
+import api.store.diglog.model.vo.post.PostSummaryVO;
+import api.store.diglog.repository.MemberRepository;
+import api.store.diglog.repository.PostRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class PostContentCompressionMigratorTest {
+
+    private static final String LONG_CONTENT = "# 제목\n\n" + "긴 본문의 코드 블록 `code` ".repeat(300);
+
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private PostContentConverter postContentConverter;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    // 진행 상태(lastId)를 가지므로 테스트마다 생성, 압축을 켠 converter와 batch 크기 1
+    private PostContentCompressionMigrator postContentCompressionMigrator;
+
+    @BeforeEach
+    void setUp() {
+        postContentCompressionMigrator = createMigrator(true);
+    }
+
+    @DisplayName("threshold보다 긴 기존 본문을 batch 단위로 압축하고, 조회 결과와 수정 시각은 바뀌지 않는다.")
+    @Test
+    void migrate() {
+        // given
+        Member member = saveMember();
+        Post longPost01 = savePost(member, LONG_CONTENT);
+        Post longPost02 = savePost(member, LONG_CONTENT + "2");
+        Post shortPost = savePost(member, "short content");
+        entityManager.clear();
+        LocalDateTime updatedAt = postRepository.findById(longPost01.getId()).get().getUpdatedAt();
+        entityManager.clear();
+
+        // when
+        postContentCompressionMigrator.migrate();
+        postContentCompressionMigrator.migrate();
+        postContentCompressionMigrator.migrate();
+        entityManager.clear();
+
+        // then
+        assertThat(CompressionUtil.isCompressed(getColumn(longPost01.getId()))).isTrue();
+        assertThat(CompressionUtil.isCompressed(getColumn(longPost02.getId()))).isTrue();
+        assertThat(getColumn(shortPost.getId())).isEqualTo("short content");
+        assertThat(getColumn(longPost01.getId()).length()).isLessThan(LONG_CONTENT.length() / 4);
+
+        Post foundPost = postRepository.findById(longPost01.getId()).get();
+        assertThat(foundPost.getContent()).isEqualTo(LONG_CONTENT);
+        assertThat(foundPost.getUpdatedAt()).isEqualTo(updatedAt);
+        assertThat(postRepository.findById(longPost02.getId()).get().getContent()).isEqualTo(LONG_CONTENT + "2");
+    }
+
+    @DisplayName("조회 이후 대소문자만 다르게 수정된 본문은 덮어쓰지 않는다.")
+    @Test
+    void migrateConcurrentlyUpdated() {
+        // given
+        Post post = savePost(saveMember(), LONG_CONTENT);
+        entityManager.clear();
+        PostContentVO content = postRepository.findUncompressedContents(
+                new UUID(0L, 0L), postContentConverter.getThreshold(), 1).getFirst();
+        String updatedContent = LONG_CONTENT.replace("code", "CODE");
+        entityManager.createNativeQuery("UPDATE post SET content = ?, updated_at = ? WHERE id = ?")
+                .setParameter(1, updatedContent)
+                .setParameter(2, content.getUpdatedAt().plusSeconds(1))
+                .setParameter(3, post.getId())
+                .executeUpdate();
+
+        // when
+        int updated = postRepository.updateContent(
+                content.getId(), content.getUpdatedAt(), postContentConverter.compress(content.getContent()));
+
+        // then
+        assertThat(updated).isZero();
+        assertThat(getColumn(post.getId())).isEqualTo(updatedContent);
+    }
+
+    @DisplayName("압축이 꺼져 있으면 migrate=true여도 기존 본문을 압축하지 않는다.")
+    @Test
+    void migrateDisabled() {
+        // given
+        Post post = savePost(saveMember(), LONG_CONTENT);
+        entityManager.clear();
+        PostContentCompressionMigrator disabledMigrator = createMigrator(false);
+
+        // when
+        disabledMigrator.migrate();
+        disabledMigrator.migrate();
+        entityManager.clear();
+
+        // then
+        assertThat(getColumn(post.getId())).isEqualTo(LONG_CONTENT);
+    }
+
+    @DisplayName("압축된 본문도 목록 조회에서 앞 200자 excerpt를 조회한다.")
+    @Test
+    void excerpt() {
+        // given
+        Post post = savePost(saveMember(), LONG_CONTENT);
+        entityManager.clear();
+
+        // when
+        postContentCompressionMigrator.migrate();
+        entityManager.clear();
+
+        // then
+        List<PostSummaryVO> postSummaries = postRepository.findSummariesByIsDeletedFalse(Limit.of(10));
+        assertThat(CompressionUtil.isCompressed(getColumn(post.getId()))).isTrue();
+        assertThat(postSummaries).hasSize(1);
+        assertThat(postSummaries.getFirst().getExcerpt()).isEqualTo(LONG_CONTENT.substring(0, 200));
+    }
+
+    private PostContentCompressionMigrator createMigrator(boolean enabled) {
+        PostContentConverter converter = new PostContentConverter(
+                new SimpleMeterRegistry(), enabled, postContentConverter.getThreshold());
+        return new PostContentCompressionMigrator(postRepository, converter, transactionTemplate, 1);
+    }
+
+    private String getColumn(UUID postId) {
+        return (String) entityManager.createNativeQuery("SELECT content FROM post WHERE id = ?")
+                .setParameter(1, postId)
+                .getSingleResult();
+    }
+
+    private Member saveMember() {
+        return memberRepository.save(Member.builder()
+                .email("compression@example.com")
+                .username("compression")
+                .password("password")
+                .roles(Set.of(Role.ROLE_USER))
+                .platform(Platform.SERVER)
+                .build());
+    }
+
+    private Post savePost(Member member, String content) {
+        return postRepository.saveAndFlush(Post.builder()
+                .member(member)
+                .title("test title")
+                .content(content)
+                .tags(List.of())
+                .build());
+    }
+}
@@ -0,0 +1,176 @@
+package api.store.diglog.service;
+
+import api.store.diglog.common.config.CacheConfig;
+import api.store.diglog.model.constant.Platform;
+import api.store.diglog.model.constant.Role;
+import api.store.diglog.model.dto.post.PostResponse;
+import api.store.diglog.model.entity.Member;
+import api.store.diglog.model.entity.Post;
+import api.store.diglog.repository.MemberRepository;
+import api.store.diglog.repository.PostRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "post.view-count.flush-interval=1h")
+@ActiveProfiles("test")
+@Transactional
+class PostViewCountServiceTest {
+
+    private static final int THREAD_COUNT = 8;
+    private static final int VIEWS_PER_THREAD = 10_000;
+
+    @Autowired
+    private PostViewCountService postViewCountService;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private CacheManager cacheManager;
+
+    @DisplayName("동시에 조회해도 모든 조회수가 반영 대기 조회수에 포함된다.")
+    @Test
+    void increase() {
+        // given
+        Post post = savePost("test title");
+
+        // when
+        runConcurrently(() -> postViewCountService.increase(post.getId()));
+
+        // then
+        PostResponse postResponse = postViewCountService.applyViewCount(new PostResponse(post));
+        assertThat(postResponse.getViewCount()).isEqualTo(THREAD_COUNT * VIEWS_PER_THREAD);
+        postViewCountService.flush();
+    }
+
+    @DisplayName("조회 중에 반영해도 조회수가 유실되지 않고 한 번의 UPDATE로 여러 게시글에 반영된다.")
+    @Test
+    void flush() {
+        // given
+        Post post01 = savePost("test title1");
+        Post post02 = savePost("test title2");
+
+        // when
+        CompletableFuture<Void> views = CompletableFuture.runAsync(() -> runConcurrently(() -> {
+            postViewCountService.increase(post01.getId());
+            postViewCountService.increase(post02.getId());
+        }));
+        while (!views.isDone()) {
+            postViewCountService.flush();
+            sleep();
+        }
+        postViewCountService.flush();
+        postViewCountService.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(postRepository.findById(post01.getId()).get().getViewCount())
+                .isEqualTo(THREAD_COUNT * VIEWS_PER_THREAD);
+        assertThat(postRepository.findById(post02.getId()).get().getViewCount())
+                .isEqualTo(THREAD_COUNT * VIEWS_PER_THREAD);
+    }
+
+    @DisplayName("조회수를 반영해도 캐시된 게시글 응답은 유지되고, 조회 시점의 조회수를 응답한다.")
+    @Test
+    void flushKeepsPostCache() {
+        // given
+        Post post = savePost("test title");
+        Cache cache = cacheManager.getCache(CacheConfig.POST);
+        PostResponse cachedResponse = new PostResponse(post);
+        // 테스트 트랜잭션 안에서 put은 커밋 이후로 미뤄지므로 즉시 저장되는 putIfAbsent 사용
+        cache.putIfAbsent(post.getId(), cachedResponse);
+        postViewCountService.increase(post.getId());
+        postViewCountService.increase(post.getId());
+
+        // when
+        postViewCountService.flush();
+        postViewCountService.increase(post.getId());
+
+        // then
+        assertThat(cache.get(post.getId(), PostResponse.class)).isSameAs(cachedResponse);
+        assertThat(postViewCountService.applyViewCount(cachedResponse).getViewCount()).isEqualTo(3);
+    }
+
+    @DisplayName("게시글을 수정해도 반영된 조회수는 유지된다.")
+    @Test
+    void viewCountNotOverwritten() {
+        // given
+        Post post = savePost("test title");
+        postViewCountService.increase(post.getId());
+        postViewCountService.flush();
+        entityManager.clear();
+
+        // when
+        Post updatedPost = Post.builder()
+                .id(post.getId())
+                .member(post.getMember())
+                .title("update title")
+                .content("update content")
+                .tags(List.of())
+                .build();
+        postRepository.saveAndFlush(updatedPost);
+        entityManager.clear();
+
+        // then
+        Post foundPost = postRepository.findById(post.getId()).get();
+        assertThat(foundPost.getTitle()).isEqualTo("update title");
+        assertThat(foundPost.getViewCount()).isEqualTo(1);
+    }
+
+    private Post savePost(String title) {
+        Member member = memberRepository.findByUsername("viewer").orElseGet(() -> memberRepository.save(Member.builder()
+                .email("viewer@example.com")
+                .username("viewer")
+                .password("password")
+                .roles(Set.of(Role.ROLE_USER))
+                .platform(Platform.SERVER)
+                .build()));
+        Post post = postRepository.saveAndFlush(Post.builder()
+                .member(member)
+                .title(title)
+                .content("test content")
+                .tags(List.of())
+                .build());
+        entityManager.clear();
+        return post;
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(5);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runConcurrently(Runnable view) {
+        try (ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT)) {
+            List<CompletableFuture<Void>> futures = IntStream.range(0, THREAD_COUNT)
+                    .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                        for (int j = 0; j < VIEWS_PER_THREAD; j++) {
+                            view.run();
+                        }
+                    }, executorService))
+                    .toList();
+            futures.forEach(CompletableFuture::join);
+        }
+    }
+}
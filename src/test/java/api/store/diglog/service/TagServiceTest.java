@@ -0,0 +1,66 @@
+package api.store.diglog.service;
+
+import api.store.diglog.model.entity.Tag;
+import api.store.diglog.model.vo.tag.TagPostVO;
+import api.store.diglog.repository.TagRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class TagServiceTest {
+
+    @Autowired
+    private TagService tagService;
+    @Autowired
+    private TagRepository tagRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @DisplayName("존재하는 태그는 그대로 사용하고 없는 태그만 저장한다.")
+    @Test
+    void saveAll() {
+        // given
+        Tag existTag = tagRepository.save(Tag.builder().name("java").build());
+        entityManager.flush();
+
+        TagPostVO tagPostVO = TagPostVO.builder()
+                .tagNames(List.of("java", "spring", "jpa", "spring"))
+                .build();
+
+        // when
+        List<Tag> tags = tagService.saveAll(tagPostVO);
+
+        // then
+        assertThat(tags).extracting(Tag::getName)
+                .containsExactlyInAnyOrder("java", "spring", "jpa");
+        assertThat(tags).filteredOn(tag -> tag.getName().equals("java"))
+                .extracting(Tag::getId)
+                .containsExactly(existTag.getId());
+        assertThat(tagRepository.findByNameIn(List.of("java", "spring", "jpa"))).hasSize(3);
+    }
+
+    @DisplayName("이미 존재하는 이름의 태그는 예외 없이 무시한다.")
+    @Test
+    void insertIgnoreAll() {
+        // given
+        tagRepository.insertIgnoreAll(List.of("java", "spring"));
+
+        // when
+        int inserted = tagRepository.insertIgnoreAll(List.of("java", "spring", "jpa"));
+
+        // then
+        assertThat(inserted).isEqualTo(1);
+        assertThat(tagRepository.findByNameIn(List.of("java", "spring", "jpa"))).hasSize(3);
+    }
+}
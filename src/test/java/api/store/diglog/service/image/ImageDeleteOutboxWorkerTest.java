@@ -0,0 +1,92 @@
+package api.store.diglog.service.image;
+
+import api.store.diglog.common.exception.CustomException;
+import api.store.diglog.common.exception.ErrorCode;
+import api.store.diglog.common.util.S3Util;
+import api.store.diglog.model.entity.ImageDeleteOutbox;
+import api.store.diglog.repository.ImageDeleteOutboxRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ImageDeleteOutboxWorkerTest {
+
+    private static final String URL_PREFIX = "https://test-bucket.s3.ap-northeast-2.amazonaws.com/diglog/";
+
+    private final ImageDeleteOutboxRepository imageDeleteOutboxRepository = mock(ImageDeleteOutboxRepository.class);
+    private final S3Util s3Util = mock(S3Util.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ImageDeleteOutboxWorker imageDeleteOutboxWorker = new ImageDeleteOutboxWorker(
+            imageDeleteOutboxRepository, s3Util, meterRegistry, 2, Duration.ofSeconds(30), Duration.ofHours(1));
+
+    @Test
+    @DisplayName("outbox를 batch 단위로 읽어 S3에서 삭제한다.")
+    void drain() {
+        // given
+        List<ImageDeleteOutbox> outboxes = getOutboxes(3);
+        when(imageDeleteOutboxRepository.findByNextAttemptAtLessThanEqualOrderByNextAttemptAt(any(), any(Limit.class)))
+                .thenReturn(outboxes.subList(0, 2))
+                .thenReturn(outboxes.subList(2, 3));
+        when(imageDeleteOutboxRepository.findOldestCreatedAt()).thenReturn(Optional.empty());
+
+        // when
+        imageDeleteOutboxWorker.drain();
+
+        // then
+        verify(s3Util).deleteImages(List.of(URL_PREFIX + 0, URL_PREFIX + 1));
+        verify(s3Util).deleteImages(List.of(URL_PREFIX + 2));
+        verify(imageDeleteOutboxRepository).deleteAllInBatch(outboxes.subList(0, 2));
+        verify(imageDeleteOutboxRepository).deleteAllInBatch(outboxes.subList(2, 3));
+        assertThat(meterRegistry.counter("image.delete.outbox.deleted").count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("삭제에 실패한 이미지는 백오프 이후 재시도한다.")
+    void retry() {
+        // given
+        List<ImageDeleteOutbox> outboxes = getOutboxes(2);
+        when(imageDeleteOutboxRepository.findByNextAttemptAtLessThanEqualOrderByNextAttemptAt(any(), any(Limit.class)))
+                .thenReturn(outboxes)
+                .thenReturn(List.of())
+                .thenReturn(List.of(outboxes.get(1)))
+                .thenReturn(List.of());
+        when(s3Util.deleteImages(any()))
+                .thenReturn(List.of(URL_PREFIX + 1))
+                .thenThrow(new CustomException(ErrorCode.S3_IMAGE_DELETE_FAILED));
+        when(imageDeleteOutboxRepository.findOldestCreatedAt()).thenReturn(Optional.of(LocalDateTime.now().minusMinutes(1)));
+
+        // when
+        imageDeleteOutboxWorker.drain();
+        LocalDateTime firstRetryAt = outboxes.get(1).getNextAttemptAt();
+        imageDeleteOutboxWorker.drain();
+
+        // then
+        assertThat(outboxes.get(1).getAttempts()).isEqualTo(2);
+        assertThat(firstRetryAt).isAfter(LocalDateTime.now().plusSeconds(20));
+        assertThat(outboxes.get(1).getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(50));
+        verify(imageDeleteOutboxRepository).deleteAllInBatch(List.of(outboxes.get(0)));
+        assertThat(meterRegistry.counter("image.delete.outbox.failed").count()).isEqualTo(2);
+        assertThat(meterRegistry.get("image.delete.outbox.lag").gauge().value()).isGreaterThanOrEqualTo(60);
+    }
+
+    private List<ImageDeleteOutbox> getOutboxes(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> ImageDeleteOutbox.builder()
+                        .url(URL_PREFIX + i)
+                        .build())
+                .toList();
+    }
+}
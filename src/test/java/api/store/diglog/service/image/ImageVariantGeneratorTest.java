@@ -0,0 +1,102 @@
+package api.store.diglog.service.image;
+
+import api.store.diglog.common.config.CacheConfig;
+import api.store.diglog.common.util.S3Util;
+import api.store.diglog.model.entity.ImageVariant;
+import api.store.diglog.repository.ImageVariantRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImageVariantGeneratorTest {
+
+    private static final String URL = "https://test-bucket.s3.ap-northeast-2.amazonaws.com/diglog/25/01/01/image.png";
+    private static final String KEY = "diglog/25/01/01/image.png";
+
+    private final S3Util s3Util = mock(S3Util.class);
+    private final ImageVariantRepository imageVariantRepository = mock(ImageVariantRepository.class);
+    private final CacheManager cacheManager = mock(CacheManager.class);
+    private final Cache cache = mock(Cache.class);
+
+    private final ImageVariantGenerator imageVariantGenerator = new ImageVariantGenerator(
+            s3Util, imageVariantRepository, cacheManager, List.of(1280, 160, 640), 1, 1);
+
+    @Captor
+    private ArgumentCaptor<List<ImageVariant>> variantsCaptor;
+
+    @BeforeEach
+    void beforeEach() {
+        when(s3Util.getKey(URL)).thenReturn(KEY);
+        when(s3Util.uploadImage(anyString(), any(byte[].class), eq("image/jpeg")))
+                .thenAnswer(invocation -> "https://test-bucket.s3.ap-northeast-2.amazonaws.com/" + invocation.getArgument(0));
+        when(cacheManager.getCache(CacheConfig.PROFILE_URL)).thenReturn(cache);
+    }
+
+    @Test
+    @DisplayName("원본보다 작은 width의 JPEG 이미지만 생성한다.")
+    void generate() throws IOException {
+        // given
+        UUID refId = UUID.randomUUID();
+        when(s3Util.getImage(URL)).thenReturn(new ByteArrayInputStream(getPng(800, 600)));
+
+        // when
+        imageVariantGenerator.generate(URL, refId);
+
+        // then
+        ArgumentCaptor<byte[]> bytesCaptor = ArgumentCaptor.forClass(byte[].class);
+        verify(s3Util).uploadImage(eq(KEY + "_w160.jpg"), bytesCaptor.capture(), eq("image/jpeg"));
+        verify(s3Util).uploadImage(eq(KEY + "_w640.jpg"), any(byte[].class), eq("image/jpeg"));
+        verify(s3Util, never()).uploadImage(eq(KEY + "_w1280.jpg"), any(byte[].class), anyString());
+
+        BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(bytesCaptor.getValue()));
+        assertThat(thumbnail.getWidth()).isEqualTo(160);
+        assertThat(thumbnail.getHeight()).isEqualTo(120);
+
+        verify(imageVariantRepository).saveAll(variantsCaptor.capture());
+        assertThat(variantsCaptor.getValue())
+                .extracting(ImageVariant::getWidth)
+                .containsExactly(160, 640);
+        verify(cache).evict(refId);
+    }
+
+    @Test
+    @DisplayName("원본이 가장 작은 width보다 작으면 생성하지 않는다.")
+    void generateSmallImage() throws IOException {
+        // given
+        when(s3Util.getImage(URL)).thenReturn(new ByteArrayInputStream(getPng(100, 100)));
+
+        // when
+        imageVariantGenerator.generate(URL, UUID.randomUUID());
+
+        // then
+        verify(s3Util, never()).uploadImage(anyString(), any(byte[].class), anyString());
+        verify(imageVariantRepository, never()).saveAll(any());
+    }
+
+    private byte[] getPng(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", outputStream);
+
+        return outputStream.toByteArray();
+    }
+}
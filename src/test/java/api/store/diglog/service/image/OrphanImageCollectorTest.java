@@ -0,0 +1,117 @@
+package api.store.diglog.service.image;
+
+import api.store.diglog.common.util.S3Util;
+import api.store.diglog.model.entity.Image;
+import api.store.diglog.model.entity.ImageDeleteOutbox;
+import api.store.diglog.model.entity.ImageVariant;
+import api.store.diglog.repository.ImageDeleteOutboxRepository;
+import api.store.diglog.repository.ImageRepository;
+import api.store.diglog.repository.ImageVariantRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(properties = {"image.gc.enabled=true", "image.delete.interval=1h"})
+@ActiveProfiles("test")
+class OrphanImageCollectorTest {
+
+    private static final String URL_PREFIX = "https://test-bucket.s3.ap-northeast-2.amazonaws.com/";
+    private static final String KEY = "diglog/25/01/01/image.png";
+    private static final String ORPHAN_KEY = "diglog/25/01/01/orphan.png";
+    private static final String RECENT_KEY = "diglog/25/01/02/recent.png";
+
+    @MockitoBean
+    private S3Util s3Util;
+
+    @Autowired
+    private OrphanImageCollector orphanImageCollector;
+    @Autowired
+    private ImageRepository imageRepository;
+    @Autowired
+    private ImageVariantRepository imageVariantRepository;
+    @Autowired
+    private ImageDeleteOutboxRepository imageDeleteOutboxRepository;
+
+    @BeforeEach
+    void beforeEach() {
+        when(s3Util.getUrl(anyString())).thenAnswer(invocation -> URL_PREFIX + invocation.getArgument(0));
+
+        Instant old = Instant.now().minus(Duration.ofDays(2));
+        when(s3Util.listImages("diglog/", 1000)).thenReturn(List.of(
+                List.of(getObject(KEY, old), getObject(KEY + "_w160.jpg", old), getObject(ORPHAN_KEY, old)),
+                List.of(getObject(ORPHAN_KEY + "_w160.jpg", old), getObject(RECENT_KEY, Instant.now()))));
+
+        imageRepository.save(Image.builder()
+                .refId(UUID.randomUUID())
+                .url(URL_PREFIX + KEY)
+                .build());
+        imageVariantRepository.saveAll(List.of(
+                getVariant(KEY),
+                getVariant(ORPHAN_KEY)));
+    }
+
+    @AfterEach
+    void afterEach() {
+        imageRepository.deleteAll();
+        imageVariantRepository.deleteAll();
+        imageDeleteOutboxRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("유예 기간이 지났고 참조되지 않는 이미지와 그 variant를 삭제 요청한다.")
+    void collect() {
+        // when
+        int orphaned = orphanImageCollector.collect(false);
+
+        // then
+        assertThat(orphaned).isEqualTo(2);
+        assertThat(imageDeleteOutboxRepository.findAll())
+                .extracting(ImageDeleteOutbox::getUrl)
+                .containsExactlyInAnyOrder(URL_PREFIX + ORPHAN_KEY, URL_PREFIX + ORPHAN_KEY + "_w160.jpg");
+        assertThat(imageVariantRepository.findAll())
+                .extracting(ImageVariant::getSourceUrl)
+                .containsExactly(URL_PREFIX + KEY);
+    }
+
+    @Test
+    @DisplayName("dry-run이면 삭제 요청하지 않는다.")
+    void collectDryRun() {
+        // when
+        int orphaned = orphanImageCollector.collect(true);
+
+        // then
+        assertThat(orphaned).isEqualTo(2);
+        assertThat(imageDeleteOutboxRepository.count()).isZero();
+        assertThat(imageVariantRepository.count()).isEqualTo(2);
+    }
+
+    private S3Object getObject(String key, Instant lastModified) {
+        return S3Object.builder()
+                .key(key)
+                .lastModified(lastModified)
+                .build();
+    }
+
+    private ImageVariant getVariant(String key) {
+        return ImageVariant.builder()
+                .sourceUrl(URL_PREFIX + key)
+                .width(160)
+                .url(URL_PREFIX + key + "_w160.jpg")
+                .build();
+    }
+}
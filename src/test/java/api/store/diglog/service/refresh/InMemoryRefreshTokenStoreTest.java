@@ -0,0 +1,56 @@
+package api.store.diglog.service.refresh;
+
+import api.store.diglog.common.util.HashUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryRefreshTokenStoreTest {
+
+    private static final String EMAIL = "test1@example.com";
+    private static final String TOKEN_HASH = HashUtil.sha256("refreshToken1");
+    private static final String TOKEN_HASH2 = HashUtil.sha256("refreshToken2");
+
+    private final InMemoryRefreshTokenStore refreshTokenStore = new InMemoryRefreshTokenStore(1209600);
+
+    @Test
+    @DisplayName("저장한 토큰을 조회한다.")
+    void exists() {
+        // given
+        refreshTokenStore.save(EMAIL, TOKEN_HASH, Instant.now().plusSeconds(1209600));
+
+        // when, then
+        assertThat(refreshTokenStore.exists(TOKEN_HASH)).isTrue();
+        assertThat(refreshTokenStore.exists(TOKEN_HASH2)).isFalse();
+    }
+
+    @Test
+    @DisplayName("새 토큰을 저장하면 같은 email의 기존 토큰은 폐기된다.")
+    void save() {
+        // given
+        refreshTokenStore.save(EMAIL, TOKEN_HASH, Instant.now().plusSeconds(1209600));
+
+        // when
+        refreshTokenStore.save(EMAIL, TOKEN_HASH2, Instant.now().plusSeconds(1209600));
+
+        // then
+        assertThat(refreshTokenStore.exists(TOKEN_HASH)).isFalse();
+        assertThat(refreshTokenStore.exists(TOKEN_HASH2)).isTrue();
+    }
+
+    @Test
+    @DisplayName("email의 토큰을 삭제한다.")
+    void deleteAllByEmail() {
+        // given
+        refreshTokenStore.save(EMAIL, TOKEN_HASH, Instant.now().plusSeconds(1209600));
+
+        // when
+        refreshTokenStore.deleteAllByEmail(EMAIL);
+
+        // then
+        assertThat(refreshTokenStore.exists(TOKEN_HASH)).isFalse();
+    }
+}
@@ -0,0 +1,44 @@
+package api.store.diglog.service.refresh;
+
+import api.store.diglog.common.util.HashUtil;
+import api.store.diglog.repository.RefreshRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class JpaRefreshTokenStoreTest {
+
+    private static final String TOKEN_HASH = HashUtil.sha256("refreshToken1");
+    private static final String TOKEN_HASH2 = HashUtil.sha256("refreshToken2");
+
+    @Autowired
+    private JpaRefreshTokenStore refreshTokenStore;
+    @Autowired
+    private RefreshRepository refreshRepository;
+
+    @Test
+    @DisplayName("만료된 토큰만 삭제한다.")
+    void deleteExpired() {
+        // given
+        refreshTokenStore.save("test1@example.com", TOKEN_HASH, Instant.now().minusSeconds(60));
+        refreshTokenStore.save("test2@example.com", TOKEN_HASH2, Instant.now().plusSeconds(1209600));
+
+        // when
+        refreshTokenStore.deleteExpired();
+
+        // then
+        assertThat(refreshRepository.existsById(TOKEN_HASH)).isFalse();
+        assertThat(refreshRepository.existsById(TOKEN_HASH2)).isTrue();
+        assertThat(refreshTokenStore.exists(TOKEN_HASH2)).isTrue();
+    }
+}
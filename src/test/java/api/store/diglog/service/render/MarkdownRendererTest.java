@@ -0,0 +1,79 @@
+package api.store.diglog.service.render;
+
+import api.store.diglog.model.vo.post.PostHeadingVO;
+import api.store.diglog.model.vo.post.RenderedPostVO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class MarkdownRendererTest {
+
+    private final MarkdownRenderer markdownRenderer = new MarkdownRenderer();
+
+    @DisplayName("Markdown을 HTML로 변환하고 heading으로 목차를 만든다.")
+    @Test
+    void render() {
+        // given
+        String markdown = """
+                # 제목
+                본문 **강조**
+
+                ## 소제목
+
+                | a | b |
+                |---|---|
+                | 1 | 2 |
+                """;
+
+        // when
+        RenderedPostVO renderedPost = markdownRenderer.render(markdown);
+
+        // then
+        assertThat(renderedPost.getHtml())
+                .contains("<h1 id=\"제목\">제목</h1>", "<strong>강조</strong>", "<table>");
+        assertThat(renderedPost.getToc())
+                .extracting(PostHeadingVO::getLevel, PostHeadingVO::getText, PostHeadingVO::getId)
+                .containsExactly(tuple(1, "제목", "제목"), tuple(2, "소제목", "소제목"));
+        assertThat(renderedPost.getWordCount()).isEqualTo(8);
+        assertThat(renderedPost.getReadingMinutes()).isEqualTo(1);
+        assertThat(renderedPost.getExcerpt()).startsWith("제목 본문 강조 소제목");
+    }
+
+    @DisplayName("script, 이벤트 속성, javascript 링크는 제거한다.")
+    @Test
+    void renderSanitized() {
+        // given
+        String markdown = """
+                <script>alert(1)</script>
+
+                <img src="https://example.com/a.png" onerror="alert(1)">
+
+                [link](javascript:alert(1))
+                """;
+
+        // when
+        RenderedPostVO renderedPost = markdownRenderer.render(markdown);
+
+        // then
+        assertThat(renderedPost.getHtml())
+                .doesNotContain("<script", "onerror", "javascript:")
+                .contains("<img src=\"https://example.com/a.png\">");
+    }
+
+    @DisplayName("읽는 시간은 200단어당 1분으로 올림하고, 요약은 본문 텍스트의 앞 200자이다.")
+    @Test
+    void renderLongContent() {
+        // given
+        String markdown = "word ".repeat(401);
+
+        // when
+        RenderedPostVO renderedPost = markdownRenderer.render(markdown);
+
+        // then
+        assertThat(renderedPost.getWordCount()).isEqualTo(401);
+        assertThat(renderedPost.getReadingMinutes()).isEqualTo(3);
+        assertThat(renderedPost.getExcerpt()).hasSize(200);
+    }
+}
@@ -0,0 +1,113 @@
+package api.store.diglog.service.render;
+
+import api.store.diglog.model.constant.Platform;
+import api.store.diglog.model.constant.Role;
+import api.store.diglog.model.dto.post.PostResponse;
+import api.store.diglog.model.entity.Member;
+import api.store.diglog.model.entity.Post;
+import api.store.diglog.repository.MemberRepository;
+import api.store.diglog.repository.PostRenderRepository;
+import api.store.diglog.repository.PostRepository;
+import api.store.diglog.service.PostService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class PostRendererTest {
+
+    @Autowired
+    private PostRenderer postRenderer;
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private PostRenderRepository postRenderRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @DisplayName("렌더링된 게시글은 HTML, 목차, 읽는 시간을 함께 응답한다.")
+    @Test
+    void render() {
+        // given
+        Post post = savePost("# 제목\n\n본문");
+
+        // when
+        postRenderer.render(post.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        PostResponse postResponse = postService.getPost(post.getId());
+        assertThat(postResponse.getContent()).isEqualTo("# 제목\n\n본문");
+        assertThat(postResponse.getHtml()).contains("<h1 id=\"제목\">제목</h1>", "<p>본문</p>");
+        assertThat(postResponse.getToc()).hasSize(1);
+        assertThat(postResponse.getWordCount()).isEqualTo(2);
+        assertThat(postResponse.getReadingMinutes()).isEqualTo(1);
+        assertThat(postResponse.getExcerpt()).isEqualTo("제목 본문");
+    }
+
+    @DisplayName("렌더링 이후 수정된 게시글은 이전 렌더링 결과를 사용하지 않고, backfill로 다시 렌더링한다.")
+    @Test
+    void backfill() {
+        // given
+        Post post = savePost("old content");
+        postRenderer.render(post.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        postRepository.saveAndFlush(Post.builder()
+                .id(post.getId())
+                .member(post.getMember())
+                .title("test title")
+                .content("new content")
+                .tags(List.of())
+                .build());
+        entityManager.clear();
+        PostResponse staleResponse = new PostResponse(postRepository.findById(post.getId()).get(),
+                postRenderRepository.findById(post.getId()).get());
+
+        // when
+        int rendered = postRenderer.backfill();
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(staleResponse.getHtml()).isNull();
+        assertThat(rendered).isEqualTo(1);
+        assertThat(postRenderRepository.findById(post.getId()).get().getHtml()).contains("new content");
+        assertThat(postService.getPost(post.getId()).getHtml()).contains("new content");
+    }
+
+    private Post savePost(String content) {
+        Member member = memberRepository.save(Member.builder()
+                .email("render@example.com")
+                .username("render")
+                .password("password")
+                .roles(Set.of(Role.ROLE_USER))
+                .platform(Platform.SERVER)
+                .build());
+        Post post = postRepository.saveAndFlush(Post.builder()
+                .member(member)
+                .title("test title")
+                .content(content)
+                .tags(List.of())
+                .build());
+        entityManager.clear();
+        return post;
+    }
+}
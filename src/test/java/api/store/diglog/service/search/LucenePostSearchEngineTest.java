@@ -0,0 +1,151 @@
+package api.store.diglog.service.search;
+
+import api.store.diglog.model.constant.SearchOption;
+import api.store.diglog.model.vo.post.PostSummaryVO;
+import api.store.diglog.model.vo.tag.PostTagVO;
+import api.store.diglog.repository.PostRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LucenePostSearchEngineTest {
+
+    private static final PostSummaryVO SPRING_POST = summary("스프링 트랜잭션 정리");
+    private static final PostSummaryVO JPA_POST = summary("JPA N+1 문제 해결");
+    private static final PostSummaryVO MYSQL_POST = summary("MySQL 인덱스");
+
+    @Mock
+    private PostRepository postRepository;
+
+    @InjectMocks
+    private LucenePostSearchEngine lucenePostSearchEngine;
+
+    @TempDir
+    Path indexPath;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        List<PostSummaryVO> postSummaries = List.of(SPRING_POST, JPA_POST, MYSQL_POST);
+        when(postRepository.findSummariesByIsDeletedFalse(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(postSummaries));
+        when(postRepository.findAllTagsByPostIdIn(anyList())).thenReturn(List.of(
+                new PostTagVO(JPA_POST.getId(), UUID.randomUUID(), "spring"),
+                new PostTagVO(MYSQL_POST.getId(), UUID.randomUUID(), "database")
+        ));
+
+        ReflectionTestUtils.setField(lucenePostSearchEngine, "indexPath", indexPath.toString());
+        lucenePostSearchEngine.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        lucenePostSearchEngine.destroy();
+    }
+
+    @Test
+    @DisplayName("한글 제목으로 게시글을 검색한다.")
+    void searchTitle() {
+        // given
+        when(postRepository.findSummariesByIdIn(List.of(SPRING_POST.getId()))).thenReturn(List.of(SPRING_POST));
+
+        // when
+        Page<PostSummaryVO> result = lucenePostSearchEngine.search("트랜잭션", SearchOption.TITLE, PageRequest.of(0, 10));
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        assertThat(result.getContent()).extracting("id").containsExactly(SPRING_POST.getId());
+    }
+
+    @Test
+    @DisplayName("전체 검색 시 제목과 태그에서 모두 검색한다.")
+    void searchAll() {
+        // given
+        when(postRepository.findSummariesByIdIn(anyList())).thenReturn(List.of(JPA_POST, SPRING_POST));
+
+        // when
+        Page<PostSummaryVO> result = lucenePostSearchEngine.search("spring", SearchOption.ALL, PageRequest.of(0, 10));
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        assertThat(result.getContent()).extracting("id").containsExactly(JPA_POST.getId());
+    }
+
+    @Test
+    @DisplayName("검색 결과가 없는 경우 빈 페이지를 반환한다.")
+    void searchEmpty() {
+        // when
+        Page<PostSummaryVO> result = lucenePostSearchEngine.search("redis", SearchOption.ALL, PageRequest.of(0, 10));
+
+        // then
+        assertThat(result.getTotalElements()).isZero();
+        assertThat(result.getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재시작 시 마지막 commit 이후 변경된 게시글을 다시 색인한다.")
+    void syncOnRestart() throws Exception {
+        // given
+        PostSummaryVO updatedPost = summary(SPRING_POST.getId(), "스프링 캐시 정리");
+        lucenePostSearchEngine.destroy();
+        when(postRepository.countByIsDeletedFalse()).thenReturn(3L);
+        when(postRepository.findIdsByUpdatedAtGreaterThanEqual(any())).thenReturn(List.of(SPRING_POST.getId()));
+        when(postRepository.findSummariesByIdIn(List.of(SPRING_POST.getId()))).thenReturn(List.of(updatedPost));
+
+        // when
+        lucenePostSearchEngine = new LucenePostSearchEngine(postRepository);
+        ReflectionTestUtils.setField(lucenePostSearchEngine, "indexPath", indexPath.toString());
+        lucenePostSearchEngine.afterPropertiesSet();
+
+        // then
+        assertThat(lucenePostSearchEngine.search("캐시", SearchOption.TITLE, PageRequest.of(0, 10)).getContent())
+                .extracting("id").containsExactly(SPRING_POST.getId());
+        assertThat(lucenePostSearchEngine.search("트랜잭션", SearchOption.TITLE, PageRequest.of(0, 10))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("sync 시 삭제된 게시글을 색인에서 제거한다.")
+    void syncDeleted() throws Exception {
+        // given
+        when(postRepository.findIdsByUpdatedAtGreaterThanEqual(any())).thenReturn(List.of(MYSQL_POST.getId()));
+        when(postRepository.findSummariesByIdIn(List.of(MYSQL_POST.getId()))).thenReturn(List.of());
+
+        // when
+        lucenePostSearchEngine.sync();
+
+        // then
+        assertThat(lucenePostSearchEngine.search("인덱스", SearchOption.TITLE, PageRequest.of(0, 10))).isEmpty();
+    }
+
+    private static PostSummaryVO summary(String title) {
+        return summary(UUID.randomUUID(), title);
+    }
+
+    private static PostSummaryVO summary(UUID id, String title) {
+        return PostSummaryVO.builder()
+                .id(id)
+                .title(title)
+                .username("test")
+                .build();
+    }
+}
@@ -0,0 +1,108 @@
+package api.store.diglog.service.search;
+
+import api.store.diglog.common.event.MemberChangedEvent;
+import api.store.diglog.model.entity.Member;
+import api.store.diglog.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MemberUsernameIndexTest {
+
+    private static final Member TEST = member("test");
+    private static final Member TESTER = member("Tester");
+    private static final Member OTHER = member("other");
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @InjectMocks
+    private MemberUsernameIndex memberUsernameIndex;
+
+    @BeforeEach
+    void beforeEach() {
+        when(memberRepository.findAllByIsDeletedFalse(any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(TESTER, OTHER, TEST)));
+        memberUsernameIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("대소문자 구분 없이 prefix로 시작하는 username을 순서대로 반환한다.")
+    void search() {
+        // when
+        List<MemberUsernameIndex.Entry> entries = memberUsernameIndex.search("TE", 10);
+
+        // then
+        assertThat(entries)
+                .extracting(MemberUsernameIndex.Entry::username)
+                .containsExactly("test", "Tester");
+        assertThat(memberUsernameIndex.search("te", 1))
+                .extracting(MemberUsernameIndex.Entry::username)
+                .containsExactly("test");
+        assertThat(memberUsernameIndex.search("x", 10)).isEmpty();
+        assertThat(memberUsernameIndex.search(" ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("username이 변경되면 기존 username은 검색되지 않는다.")
+    void onMemberChanged() {
+        // when
+        memberUsernameIndex.onMemberChanged(new MemberChangedEvent(TEST.getId(), "renamed"));
+
+        // then
+        assertThat(memberUsernameIndex.search("te", 10))
+                .extracting(MemberUsernameIndex.Entry::username)
+                .containsExactly("Tester");
+        assertThat(memberUsernameIndex.search("re", 10))
+                .extracting(MemberUsernameIndex.Entry::id)
+                .containsExactly(TEST.getId());
+    }
+
+    @Test
+    @DisplayName("재생성 중에 변경된 username은 재생성 이후에도 반영되어 있다.")
+    void onMemberChangedDuringRebuild() {
+        // given
+        Member joined = member("joined");
+        when(memberRepository.findAllByIsDeletedFalse(any(Pageable.class))).thenAnswer(invocation -> {
+            // 조회 결과에는 아직 반영되지 않은 변경
+            memberUsernameIndex.onMemberChanged(new MemberChangedEvent(TEST.getId(), "renamed"));
+            memberUsernameIndex.onMemberChanged(new MemberChangedEvent(joined.getId(), joined.getUsername()));
+            return new SliceImpl<>(List.of(TESTER, OTHER, TEST));
+        });
+
+        // when
+        memberUsernameIndex.rebuild();
+
+        // then
+        assertThat(memberUsernameIndex.search("te", 10))
+                .extracting(MemberUsernameIndex.Entry::username)
+                .containsExactly("Tester");
+        assertThat(memberUsernameIndex.search("re", 10))
+                .extracting(MemberUsernameIndex.Entry::id)
+                .containsExactly(TEST.getId());
+        assertThat(memberUsernameIndex.search("jo", 10))
+                .extracting(MemberUsernameIndex.Entry::id)
+                .containsExactly(joined.getId());
+    }
+
+    private static Member member(String username) {
+        return Member.builder()
+                .id(UUID.randomUUID())
+                .username(username)
+                .build();
+    }
+}
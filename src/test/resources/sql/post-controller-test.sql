@@ -4,8 +4,9 @@ VALUES ('aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa', 'test@example.com', 'qwer1234',
 INSERT INTO member_roles (member_id, role)
 VALUES ('aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa', 'ROLE_USER');
 
-INSERT INTO folder (id, member_id, parent_id, depth, order_index, title)
-VALUES ('00000000-0000-0000-0000-000000000000', 'aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa', NULL, 0, 0, 'test folder');
+INSERT INTO folder (id, member_id, parent_id, depth, order_index, title, path)
+VALUES ('00000000-0000-0000-0000-000000000000', 'aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa', NULL, 0, 0, 'test folder',
+        '/00000000-0000-0000-0000-000000000000/');
 
 INSERT INTO post (id, member_id, title, content, folder_id, is_deleted, created_at, updated_at)
 VALUES ('11111111-1111-1111-1111-111111111111', 'aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa', 'test title', 'test content',